@@ -0,0 +1,86 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.domain.gpt_place.web.dto.GptScheduleDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceListsDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하루 동선 최적화 시간: 여행 일수 x 하루 관광·카페 항목 수 별 플랜 한 건 처리 시간 (목표: 10ms 미만)
+ * optimize 는 일정 시간을 바꾸므로 호출마다 일정 사본을 만들어서 사용 (사본 비용 포함)
+ * 실행: ./gradlew jmh -Pjmh.includes=DailyRouteOptimizer
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DailyRouteOptimizerBenchmark {
+
+    @Param({"1", "3", "7"})
+    private int days;
+
+    // 식사 사이 구간마다 들어가는 관광·카페 항목 수 (하루 3구간)
+    @Param({"2", "4", "8"})
+    private int flexiblePerSegment;
+
+    private final DailyRouteOptimizer optimizer = new DailyRouteOptimizer();
+    private PlaceListsDTO placeLists;
+    private List<GptScheduleDTO> schedules;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<PlaceDTO> attractions = new ArrayList<>();
+        List<PlaceDTO> restaurants = new ArrayList<>();
+        schedules = new ArrayList<>();
+
+        for (int day = 1; day <= days; day++) {
+            double time = 8.0;
+            for (int segment = 0; segment < 3; segment++) {
+                PlaceDTO restaurant = place("restaurant-" + day + "-" + segment, random);
+                restaurants.add(restaurant);
+                schedules.add(new GptScheduleDTO(restaurant.getName(), "식사", "", day, time, time + 1));
+                time += 1;
+                for (int i = 0; i < flexiblePerSegment; i++) {
+                    PlaceDTO attraction = place("attraction-" + day + "-" + segment + "-" + i, random);
+                    attractions.add(attraction);
+                    schedules.add(new GptScheduleDTO(attraction.getName(), i % 3 == 2 ? "카페" : "관광", "",
+                            day, time, time + 0.5));
+                    time += 0.5;
+                }
+            }
+        }
+        placeLists = PlaceListsDTO.builder()
+                .attractionList(attractions)
+                .restaurantList(restaurants)
+                .cafeList(List.of())
+                .hotelList(List.of())
+                .build();
+    }
+
+    @Benchmark
+    public double optimize() {
+        List<GptScheduleDTO> copy = new ArrayList<>(schedules.size());
+        for (GptScheduleDTO s : schedules) {
+            copy.add(new GptScheduleDTO(s.getPlace(), s.getTitle(), s.getContent(), s.getDay(),
+                    s.getStartTime(), s.getEndTime()));
+        }
+        return optimizer.optimize(copy, placeLists);
+    }
+
+    private static PlaceDTO place(String name, Random random) {
+        return PlaceDTO.builder()
+                .name(name)
+                .placeId(name)
+                .lat(37.5 + random.nextDouble() / 5)
+                .lng(127.0 + random.nextDouble() / 5)
+                .build();
+    }
+}
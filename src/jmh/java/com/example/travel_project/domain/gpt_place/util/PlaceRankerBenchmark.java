@@ -0,0 +1,65 @@
+package com.example.travel_project.domain.gpt_place.util;
+
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 장소 순위 선택 비교: 기존 stream 정렬 파이프라인 vs PlaceRanker(크기 K 힙)
+ * 실행: ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlaceRankerBenchmark {
+
+    @Param({"20", "60", "300"})
+    private int size;
+
+    @Param({"1", "3", "20"})
+    private int limit;
+
+    private List<PlaceDTO> places;
+    private final PlaceScorer scorer = PlaceScorer.popularity();
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        places = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            double rating = 3.0 + random.nextInt(21) / 10.0;
+            int reviews = random.nextInt(5000);
+            places.add(PlaceDTO.builder()
+                    .name("place-" + i)
+                    .placeId("id-" + random.nextInt(1_000_000))
+                    .rate(rating)
+                    .reviewCount(reviews)
+                    .score(rating * Math.log(reviews + 1))
+                    .lat(37.5 + random.nextDouble() / 10)
+                    .lng(127.0 + random.nextDouble() / 10)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<PlaceDTO> streamSortLimit() {
+        return places.stream()
+                .sorted(Comparator.comparingDouble(PlaceDTO::getScore).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<PlaceDTO> boundedHeapTopK() {
+        return PlaceRanker.topK(places, limit, scorer);
+    }
+}
@@ -23,6 +23,17 @@ public enum ErrorStatus implements BaseErrorCode {
     ROOM_NOT_FOUND(HttpStatus.BAD_REQUEST, "PLAN4001", "존재하지 않는 플랜입니다."),
     USER_ALREADY_IN_ROOM(HttpStatus.BAD_REQUEST, "PLAN4002", "이미 참여중입니다."),
 
+    // Place
+    PLACE_API_ERROR(HttpStatus.BAD_GATEWAY, "PLACE5021", "장소 검색 서버에서 오류가 발생했습니다. 잠시 후 다시 시도해주세요."),
+    PLACE_API_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "PLACE5031", "장소 검색 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    GPT_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "PLACE5032", "일정 추천 서버가 응답하지 않습니다. 잠시 후 다시 시도해주세요."),
+    PLAN_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "PLACE4041", "존재하지 않는 플랜 생성 작업입니다."),
+    PLAN_JOB_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "PLACE5033", "플랜 생성 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+
+    // Idempotency
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY4221", "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다."),
+    IDEMPOTENCY_KEY_IN_PROGRESS(HttpStatus.CONFLICT, "IDEMPOTENCY4091", "같은 Idempotency-Key 의 요청을 처리 중입니다. 잠시 후 다시 시도해주세요."),
+
     // User
     USER_NOT_FOUND(HttpStatus.BAD_REQUEST, "USER4001", "존재하지 않는 사용자입니다."),
     NOT_AUTHENTICATED(HttpStatus.UNAUTHORIZED, "USER4002", "인증되지 않은 사용자입니다."),
@@ -1,13 +1,46 @@
 package com.example.travel_project.config;
 
+import com.example.travel_project.config.http.OutboundHttpClients;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
 
 @Configuration
 public class AppConfig {
+    // Google Maps API 용 (기본 RestTemplate)
+    @Bean
+    @Primary
+    public RestTemplate restTemplate(
+            OutboundHttpClients outboundHttpClients,
+            @Value("${http.maps.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${http.maps.read-timeout-ms:10000}") long readTimeoutMs
+    ) {
+        return outboundHttpClients.restTemplate("maps.googleapis.com",
+                Duration.ofMillis(connectTimeoutMs), Duration.ofMillis(readTimeoutMs));
+    }
+
+    // OpenAI API 용 (긴 응답 생성을 기다려야 하므로 제한 시간을 길게)
+    @Bean
+    public RestTemplate openAiRestTemplate(
+            OutboundHttpClients outboundHttpClients,
+            @Value("${http.openai.connect-timeout-ms:5000}") long connectTimeoutMs,
+            @Value("${http.openai.read-timeout-ms:180000}") long readTimeoutMs
+    ) {
+        return outboundHttpClients.restTemplate("api.openai.com",
+                Duration.ofMillis(connectTimeoutMs), Duration.ofMillis(readTimeoutMs));
+    }
+
+    // OpenAI API 비동기 호출용 (openAiRestTemplate 과 같은 연결 사용)
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public WebClient openAiWebClient(
+            OutboundHttpClients outboundHttpClients,
+            @Value("${http.openai.connect-timeout-ms:5000}") long connectTimeoutMs
+    ) {
+        return outboundHttpClients.webClient("api.openai.com", Duration.ofMillis(connectTimeoutMs));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package com.example.travel_project.config;
+
+import com.example.travel_project.domain.gpt_place.service.MapsRateLimiter;
+import com.example.travel_project.domain.gpt_place.service.PlacesResponseDecoder;
+import com.example.travel_project.domain.gpt_place.service.provider.GooglePlacesProvider;
+import com.example.travel_project.domain.gpt_place.service.provider.PlacesProvider;
+import com.example.travel_project.domain.gpt_place.service.provider.ReplayPlacesProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.file.Path;
+
+/**
+ * 장소 데이터 제공자 선택
+ * google.places.provider
+ *  - google(기본): Google Maps API 호출
+ *  - record: Google 을 호출하면서 응답을 google.places.replay.dir 에 저장
+ *  - replay: 저장된 응답만 사용 (google.places.replay.latency-ms / latency-jitter-ms 로 지연 주입)
+ */
+@Configuration
+public class PlacesProviderConfig {
+
+    @Bean
+    public PlacesProvider placesProvider(
+            RestTemplate restTemplate,
+            MapsRateLimiter mapsRateLimiter,
+            PlacesResponseDecoder placesResponseDecoder,
+            ObjectMapper objectMapper,
+            @Value("${google.api.key:}") String apiKey,
+            @Value("${google.places.provider:google}") String provider,
+            @Value("${google.places.replay.dir:fixtures/places}") String replayDir,
+            @Value("${google.places.replay.latency-ms:0}") long latencyMs,
+            @Value("${google.places.replay.latency-jitter-ms:0}") long jitterMs
+    ) {
+        GooglePlacesProvider google = new GooglePlacesProvider(
+                restTemplate, mapsRateLimiter, placesResponseDecoder, objectMapper, apiKey);
+
+        return switch (provider) {
+            case "replay" -> new ReplayPlacesProvider(
+                    placesResponseDecoder, objectMapper, Path.of(replayDir), latencyMs, jitterMs, null);
+            case "record" -> new ReplayPlacesProvider(
+                    placesResponseDecoder, objectMapper, Path.of(replayDir), 0L, 0L, google);
+            default -> google;
+        };
+    }
+}
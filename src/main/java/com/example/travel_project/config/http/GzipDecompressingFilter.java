@@ -0,0 +1,132 @@
+package com.example.travel_project.config.http;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * gzip 응답 요청 + 압축 해제 (WebClient 용, RestTemplate 의 GzipDecompressingInterceptor 와 같은 역할)
+ * 스트리밍(SSE) 응답도 받은 조각마다 바로 풀어서 넘기도록 Inflater 로 조금씩 해제
+ */
+public class GzipDecompressingFilter implements ExchangeFilterFunction {
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        ClientRequest gzipRequest = request.headers().containsKey(HttpHeaders.ACCEPT_ENCODING)
+                ? request
+                : ClientRequest.from(request).header(HttpHeaders.ACCEPT_ENCODING, "gzip").build();
+
+        return next.exchange(gzipRequest).map(response -> {
+            String encoding = response.headers().asHttpHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+            if (!"gzip".equalsIgnoreCase(encoding)) return response;
+
+            // 압축을 푼 뒤에는 길이·인코딩 헤더가 맞지 않으므로 제거
+            return response.mutate()
+                    .headers(headers -> {
+                        headers.remove(HttpHeaders.CONTENT_ENCODING);
+                        headers.remove(HttpHeaders.CONTENT_LENGTH);
+                    })
+                    .body(body -> Flux.using(Gunzip::new, gunzip -> body.mapNotNull(buffer -> {
+                        byte[] chunk = new byte[buffer.readableByteCount()];
+                        buffer.read(chunk);
+                        DataBufferUtils.release(buffer);
+                        byte[] inflated = gunzip.feed(chunk);
+                        return inflated.length == 0 ? null : DefaultDataBufferFactory.sharedInstance.wrap(inflated);
+                    }), Gunzip::close))
+                    .build();
+        });
+    }
+
+    /**
+     * 조각 단위 gzip 해제 (헤더를 건너뛴 뒤 raw deflate 로 풀고, 끝난 뒤의 trailer 는 무시)
+     */
+    static final class Gunzip implements AutoCloseable {
+        private static final int FHCRC = 2;
+        private static final int FEXTRA = 4;
+        private static final int FNAME = 8;
+        private static final int FCOMMENT = 16;
+
+        private final Inflater inflater = new Inflater(true);
+        private final byte[] window = new byte[8192];
+        private ByteArrayOutputStream header = new ByteArrayOutputStream();
+
+        byte[] feed(byte[] chunk) {
+            byte[] input = chunk;
+            if (header != null) {
+                header.writeBytes(chunk);
+                byte[] buffered = header.toByteArray();
+                int length = headerLength(buffered);
+                if (length < 0) return new byte[0]; // 헤더가 아직 덜 옴
+                header = null;
+                input = Arrays.copyOfRange(buffered, length, buffered.length);
+            }
+            if (inflater.finished() || input.length == 0) return new byte[0];
+
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 4);
+            try {
+                while (!inflater.finished()) {
+                    int n = inflater.inflate(window);
+                    if (n > 0) {
+                        out.write(window, 0, n);
+                    } else if (inflater.needsInput() || inflater.needsDictionary()) {
+                        break;
+                    }
+                }
+            } catch (DataFormatException e) {
+                throw new IllegalStateException("invalid gzip response body", e);
+            }
+            return out.toByteArray();
+        }
+
+        // gzip 헤더 길이, 아직 다 받지 못했으면 -1
+        private static int headerLength(byte[] b) {
+            if (b.length < 10) return -1;
+            if ((b[0] & 0xff) != 0x1f || (b[1] & 0xff) != 0x8b || b[2] != 8) {
+                throw new IllegalStateException("not a gzip response body");
+            }
+            int flags = b[3] & 0xff;
+            int pos = 10;
+            if ((flags & FEXTRA) != 0) {
+                if (b.length < pos + 2) return -1;
+                pos += 2 + ((b[pos] & 0xff) | ((b[pos + 1] & 0xff) << 8));
+            }
+            if ((flags & FNAME) != 0) {
+                pos = skipZeroTerminated(b, pos);
+                if (pos < 0) return -1;
+            }
+            if ((flags & FCOMMENT) != 0) {
+                pos = skipZeroTerminated(b, pos);
+                if (pos < 0) return -1;
+            }
+            if ((flags & FHCRC) != 0) {
+                pos += 2;
+            }
+            return pos <= b.length ? pos : -1;
+        }
+
+        private static int skipZeroTerminated(byte[] b, int pos) {
+            for (int i = pos; i < b.length; i++) {
+                if (b[i] == 0) return i + 1;
+            }
+            return -1;
+        }
+
+        @Override
+        public void close() {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.travel_project.config.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 외부 호스트별 공유 HTTP 클라이언트
+ * (호스트, connectTimeout) 마다 JDK HttpClient 하나를 만들어 재사용 (keep-alive 연결 풀, TLS 세션 재사용, ALPN 으로 HTTP/2 협상)
+ * 같은 호스트·연결 제한 시간의 RestTemplate 과 WebClient 는 같은 HttpClient(같은 연결)를 사용
+ * - connectTimeout : TCP/TLS 연결까지 (HttpClient 에 고정되는 값이라 다르게 주면 별도 클라이언트)
+ * - readTimeout    : 요청 시작부터 응답 본문을 다 읽을 때까지 (전체 제한 시간, WebClient 는 호출하는 쪽에서 timeout)
+ * RestTemplate·WebClient 요청 모두 gzip 으로 받고, 호스트별 지연·진행 중 요청 수를 기록
+ */
+@Component
+public class OutboundHttpClients {
+
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<ClientKey, HttpClient> clients = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    public OutboundHttpClients(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public HttpClient httpClient(String host, Duration connectTimeout) {
+        return clients.computeIfAbsent(new ClientKey(host, connectTimeout), k -> HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build());
+    }
+
+    public JdkClientHttpRequestFactory requestFactory(String host, Duration connectTimeout, Duration readTimeout) {
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient(host, connectTimeout), executor);
+        factory.setReadTimeout(readTimeout);
+        return factory;
+    }
+
+    public RestTemplate restTemplate(String host, Duration connectTimeout, Duration readTimeout) {
+        RestTemplate restTemplate = new RestTemplate(requestFactory(host, connectTimeout, readTimeout));
+        restTemplate.setInterceptors(List.of(
+                new OutboundMetricsInterceptor(meterRegistry, host, inFlight(host)),
+                new GzipDecompressingInterceptor()));
+        return restTemplate;
+    }
+
+    public WebClient webClient(String host, Duration connectTimeout) {
+        return WebClient.builder()
+                .clientConnector(new JdkClientHttpConnector(httpClient(host, connectTimeout)))
+                .filter(metricsFilter(host))
+                .filter(new GzipDecompressingFilter())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // WebClient 용 메트릭 (RestTemplate 과 같은 이름·태그, 취소된 요청은 status=CANCELLED)
+    private ExchangeFilterFunction metricsFilter(String host) {
+        AtomicInteger hostInFlight = inFlight(host);
+        return (request, next) -> Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            hostInFlight.incrementAndGet();
+            return next.exchange(request)
+                    .doOnNext(response -> OutboundMetricsInterceptor.record(
+                            meterRegistry, sample, host, String.valueOf(response.statusCode().value())))
+                    .doOnError(e -> OutboundMetricsInterceptor.record(meterRegistry, sample, host, "IO_ERROR"))
+                    .doOnCancel(() -> OutboundMetricsInterceptor.record(meterRegistry, sample, host, "CANCELLED"))
+                    .doFinally(signal -> hostInFlight.decrementAndGet());
+        });
+    }
+
+    private AtomicInteger inFlight(String host) {
+        return inFlight.computeIfAbsent(host, h ->
+                meterRegistry.gauge("outbound.http.in-flight", Tags.of("host", h), new AtomicInteger()));
+    }
+
+    private record ClientKey(String host, Duration connectTimeout) {
+    }
+}
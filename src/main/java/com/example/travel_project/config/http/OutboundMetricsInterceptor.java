@@ -0,0 +1,52 @@
+package com.example.travel_project.config.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 호스트별 외부 호출 메트릭 (RestTemplate 용)
+ * - outbound.http.requests{host, status} : 응답 헤더까지 걸린 시간 (예외는 status=IO_ERROR)
+ * - outbound.http.in-flight{host}        : 진행 중인 요청 수 (연결 풀 사용량, 같은 호스트의 클라이언트끼리 공유)
+ */
+public class OutboundMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final String host;
+    private final AtomicInteger inFlight;
+
+    public OutboundMetricsInterceptor(MeterRegistry meterRegistry, String host, AtomicInteger inFlight) {
+        this.meterRegistry = meterRegistry;
+        this.host = host;
+        this.inFlight = inFlight;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        inFlight.incrementAndGet();
+        String status = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = String.valueOf(response.getStatusCode().value());
+            return response;
+        } finally {
+            inFlight.decrementAndGet();
+            record(meterRegistry, sample, host, status);
+        }
+    }
+
+    static void record(MeterRegistry meterRegistry, Timer.Sample sample, String host, String status) {
+        sample.stop(Timer.builder("outbound.http.requests")
+                .tags("host", host, "status", status)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry));
+    }
+}
@@ -6,6 +6,7 @@ import com.google.firebase.cloud.FirestoreClient;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 
 @Service
@@ -23,6 +24,26 @@ public class FirestoreService {
         return result.get().getUpdateTime().toString();
     }
 
+    /**
+     * 플랜의 여러 문서(info / places / schedules 등)를 WriteBatch 하나로 저장 (왕복 한 번, 모두 저장되거나 모두 실패)
+     * documents 는 문서 이름 → 내용
+     */
+    public String savePlanDocuments(String planId, Map<String, Object> documents) throws ExecutionException, InterruptedException {
+        Firestore db = FirestoreClient.getFirestore();
+        CollectionReference collectionReference = db
+                .collection("travloom")
+                .document("plan")
+                .collection(planId);
+
+        WriteBatch batch = db.batch();
+        for (Map.Entry<String, Object> document : documents.entrySet()) {
+            batch.set(collectionReference.document(document.getKey()), document.getValue());
+        }
+        List<WriteResult> results = batch.commit().get();
+
+        return results.isEmpty() ? null : results.get(0).getUpdateTime().toString();
+    }
+
     public void deletePlanData(String planId) throws ExecutionException, InterruptedException {
         Firestore db = FirestoreClient.getFirestore();
         CollectionReference collectionReference = db
@@ -0,0 +1,68 @@
+package com.example.travel_project.domain.gpt_place.data;
+
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceDTO;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Places API 응답으로 모은 장소 카탈로그 (placeId 기준으로 최신 정보 유지)
+ */
+@Entity
+@Table(name = "places", indexes = @Index(name = "idx_places_lat_lng", columnList = "lat, lng"))
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class Place {
+    @Id
+    @Column(length = 512)
+    private String placeId;
+
+    private String name;
+    private String address;
+    private double rate;
+    private int reviewCount;
+
+    @Column(length = 1024)
+    private String photoReference;
+
+    private double lat;
+    private double lng;
+
+    @Column(length = 1024)
+    private String types;        // 콤마로 구분한 Google place type 목록
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    public static Place from(PlaceDTO dto, Instant updatedAt) {
+        return Place.builder()
+                .placeId(dto.getPlaceId())
+                .name(dto.getName())
+                .address(dto.getAddress())
+                .rate(dto.getRate())
+                .reviewCount(dto.getReviewCount())
+                .photoReference(dto.getPhotoReference())
+                .lat(dto.getLat())
+                .lng(dto.getLng())
+                .types(dto.getTypes() == null ? "" : String.join(",", dto.getTypes()))
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    public PlaceDTO toDTO() {
+        return PlaceDTO.builder()
+                .placeId(placeId)
+                .name(name)
+                .address(address)
+                .rate(rate)
+                .reviewCount(reviewCount)
+                .photoReference(photoReference)
+                .score(rate * Math.log(reviewCount + 1))
+                .lat(lat)
+                .lng(lng)
+                .types(types == null || types.isEmpty() ? List.of() : Arrays.asList(types.split(",")))
+                .build();
+    }
+}
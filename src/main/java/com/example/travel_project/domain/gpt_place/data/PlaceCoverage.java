@@ -0,0 +1,24 @@
+package com.example.travel_project.domain.gpt_place.data;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 카탈로그가 어떤 셀·타입을 Google 주변 검색으로 채웠는지 기록
+ * id 는 "geohash|type"
+ */
+@Entity
+@Table(name = "place_coverage")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class PlaceCoverage {
+    @Id
+    private String id;
+
+    private int radius;          // 검색 반경(m)
+    private boolean exhausted;   // 검색 결과가 limit 보다 적었음 (그 반경 안의 장소를 모두 받음)
+
+    @Column(nullable = false)
+    private Instant coveredAt;
+}
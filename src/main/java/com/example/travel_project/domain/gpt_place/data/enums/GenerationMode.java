@@ -0,0 +1,21 @@
+package com.example.travel_project.domain.gpt_place.data.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 플랜 생성 방식 (places.generation.mode)
+ * - LEGACY     : 번호 목록 텍스트 추천(정규식 파싱) + 일정 JSON 텍스트(부분 문자열 추출 후 파싱)
+ * - STRUCTURED : 두 호출 모두 JSON schema 출력(response_format)으로 받아 DTO 로 바로 역직렬화
+ * - PIPELINED  : STRUCTURED + 추천 호출을 짧게(설명 축약, 적은 max_tokens) 하고,
+ *                그 응답을 기다리는 동안 지역 인기 관광지(보충 후보)를 미리 조회
+ */
+@Getter
+@RequiredArgsConstructor
+public enum GenerationMode {
+    LEGACY("legacy"),
+    STRUCTURED("structured"),
+    PIPELINED("pipelined");
+
+    private final String key;
+}
@@ -0,0 +1,21 @@
+package com.example.travel_project.domain.gpt_place.data.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 플랜 생성 단계 (작업 진행 상황 표시용, 순서대로 진행)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum GenerationStage {
+    QUEUED("queued"),                   // 작업 대기열
+    RECOMMENDING("recommending"),       // 2~3) GPT 여행지 추천
+    RESOLVING("resolving"),             // 4~5) 추천 관광지 검색 + 보충
+    SEARCHING_NEARBY("searching-nearby"), // 6) 주변 식당·카페·숙소 검색
+    SCHEDULING("scheduling"),           // 7~8) 일정 생성 + 동선 최적화
+    SAVING("saving"),                   // 9) 플랜 등록 + Firestore 저장
+    DONE("done");
+
+    private final String key;
+}
@@ -0,0 +1,22 @@
+package com.example.travel_project.domain.gpt_place.data.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * OpenAI 호출 종류 (GptCallGuard 가 종류별로 지연 분포를 따로 모음)
+ * - CHAT           : ask / askAsync 일반 텍스트 호출
+ * - RECOMMENDATION : 여행지 추천 (짧은 응답)
+ * - SCHEDULE       : 일정 생성, 응답을 한 번에 받음 (긴 응답)
+ * - STREAM         : 일정 생성 스트리밍, 지연은 첫 응답까지의 시간만 모음
+ */
+@Getter
+@RequiredArgsConstructor
+public enum GptCallKind {
+    CHAT("chat"),
+    RECOMMENDATION("recommendation"),
+    SCHEDULE("schedule"),
+    STREAM("stream");
+
+    private final String key;
+}
@@ -0,0 +1,15 @@
+package com.example.travel_project.domain.gpt_place.data.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum MapsEndpoint {
+    GEOCODE("geocode"),
+    NEARBY_SEARCH("nearby-search"),
+    TEXT_SEARCH("text-search"),
+    FIND_PLACE("find-place");
+
+    private final String key;
+}
@@ -0,0 +1,11 @@
+package com.example.travel_project.domain.gpt_place.data.enums;
+
+/**
+ * 플랜 생성 작업 상태
+ */
+public enum PlanJobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
@@ -0,0 +1,18 @@
+package com.example.travel_project.domain.gpt_place.data.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일정(타임슬롯) 생성 방식 (places.schedule.mode)
+ * - GPT   : 장소 목록으로 GPT 에 일정을 요청 (실패하거나 쓸 수 있는 항목이 없으면 LOCAL 로 대체)
+ * - LOCAL : GPT 호출 없이 LocalItineraryBuilder 의 고정 규칙으로 바로 생성
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ScheduleMode {
+    GPT("gpt"),
+    LOCAL("local");
+
+    private final String key;
+}
@@ -0,0 +1,13 @@
+package com.example.travel_project.domain.gpt_place.repository;
+
+import com.example.travel_project.domain.gpt_place.data.PlaceCoverage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface PlaceCoverageRepository extends JpaRepository<PlaceCoverage, String> {
+    List<PlaceCoverage> findByCoveredAtAfter(Instant coveredAt);   // 아직 유효한 기록만 조회
+}
@@ -0,0 +1,14 @@
+package com.example.travel_project.domain.gpt_place.repository;
+
+import com.example.travel_project.domain.gpt_place.data.Place;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface PlaceRepository extends JpaRepository<Place, String> {
+    Slice<Place> findByUpdatedAtAfter(Instant updatedAt, Pageable pageable);   // 최근에 갱신된 장소만 페이지 단위로 조회
+}
@@ -1,14 +1,34 @@
 package com.example.travel_project.domain.gpt_place.service;
 
+import com.example.travel_project.apiPayload.code.status.ErrorStatus;
+import com.example.travel_project.apiPayload.exception.GeneralException;
+import com.example.travel_project.domain.gpt_place.data.enums.GptCallKind;
+import com.example.travel_project.domain.gpt_place.web.dto.GptCompletionDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 @Service
 public class ChatGptService {
@@ -18,15 +38,203 @@ public class ChatGptService {
 
     private static final String API_URL    = "https://api.openai.com/v1/chat/completions";
 
+    private static final String ERROR_MESSAGE = "죄송합니다, 답변 생성 중 오류가 발생했습니다.";
+
+    public static final int MAX_TOKENS = 8000;
+
+    // 호출마다 새로 만들지 않고 공유 클라이언트(연결 재사용) 사용
+    private final RestTemplate restTemplate;
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final GptCallGuard callGuard;
+
+    @Value("${openai.retry.max-attempts:2}")
+    private int retryMaxAttempts;
+    @Value("${openai.retry.min-backoff-ms:500}")
+    private long retryMinBackoffMs;
+
+    public ChatGptService(@Qualifier("openAiRestTemplate") RestTemplate restTemplate,
+                          @Qualifier("openAiWebClient") WebClient webClient,
+                          ObjectMapper objectMapper,
+                          GptCallGuard callGuard) {
+        this.restTemplate = restTemplate;
+        this.webClient = webClient;
+        this.objectMapper = objectMapper;
+        this.callGuard = callGuard;
+    }
+
+    // 동기 호출 (askAsync 결과를 기다림)
     public String ask(String userMessage) {
-        RestTemplate restTemplate = new RestTemplate();
+        return askAsync(userMessage).block();
+    }
+
+    // 일반 텍스트 응답만 필요한 비동기 호출 (complete 와 같은 제한 시간·재시도·헤지·서킷 브레이커 적용)
+    public Mono<String> askAsync(String userMessage) {
+        return complete(GptCallKind.CHAT, userMessage, null, MAX_TOKENS).map(GptCompletionDTO::getContent);
+    }
+
+    // CompletableFuture 버전 (cancel 하면 요청도 취소)
+    public CompletableFuture<String> askFuture(String userMessage) {
+        return askAsync(userMessage).toFuture();
+    }
+
+    /**
+     * 비동기 호출: 구독할 때 요청을 보내고, 구독을 취소하면 진행 중인 요청도 취소
+     * 응답 형식(response_format, null 이면 일반 텍스트)과 max_tokens 를 지정하고 토큰 사용량(usage)을 함께 반환
+     * - 제한 시간은 같은 종류(kind) 호출의 관측 지연 또는 예상 출력 길이로 정함 (최대 openai.deadline.max-ms, 재시도 포함)
+     * - 429 / 5xx / 연결 오류는 지수 백오프 + jitter 로 최대 openai.retry.max-attempts 번 재시도
+     * - 최근 지연 p95 가 지나도 응답이 없으면 같은 요청을 한 번 더 보내고(헤지) 먼저 온 응답 사용
+     * - 시간 초과나 서킷 브레이커 OPEN 이면 GeneralException(GPT_UNAVAILABLE)
+     */
+    public Mono<GptCompletionDTO> complete(GptCallKind kind, String userMessage, Map<String,Object> responseFormat,
+                                           int maxTokens) {
+        Map<String,Object> body = requestBody(userMessage, responseFormat, maxTokens);
+        Duration deadline = callGuard.deadline(kind, userMessage, maxTokens);
+        Mono<GptCompletionDTO> primary = attempt(kind, body, deadline);
+
+        return callGuard.hedgeDelay(kind)
+                .filter(delay -> delay.compareTo(deadline) < 0)
+                .map(delay -> Mono.firstWithSignal(primary, hedge(kind, body, deadline.minus(delay), delay)))
+                .orElse(primary);
+    }
+
+    // 요청 한 건 (재시도 포함): 서킷 브레이커 허가 → 요청 → 제한 시간, 결과는 브레이커·지연 통계에 반영
+    private Mono<GptCompletionDTO> attempt(GptCallKind kind, Map<String,Object> body, Duration deadline) {
+        return Mono.defer(() -> {
+            GptCallGuard.Permit permit = callGuard.acquire(kind);
+            return webClient.post()
+                    .uri(API_URL)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .headers(headers -> headers.setBearerAuth(apiKey))
+                    .bodyValue(body)
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .retryWhen(Retry.backoff(retryMaxAttempts, Duration.ofMillis(retryMinBackoffMs))
+                            .jitter(0.5)
+                            .filter(ChatGptService::isRetryable)
+                            .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                    .timeout(deadline)
+                    .map(response -> {
+                        // 응답 파싱: choices[0].message.content
+                        JsonNode content = response.path("choices").path(0).path("message").path("content");
+                        return completion(content.isTextual() ? content.asText().trim() : ERROR_MESSAGE,
+                                response.path("usage"));
+                    })
+                    .doOnSuccess(completion -> permit.success())
+                    .doOnError(e -> {
+                        if (e instanceof TimeoutException) {
+                            permit.timeout(deadline);
+                        } else {
+                            permit.failure(e);
+                        }
+                    })
+                    .doOnCancel(permit::cancel)
+                    .onErrorMap(TimeoutException.class, e -> new GeneralException(ErrorStatus.GPT_UNAVAILABLE));
+        });
+    }
+
+    // delay 뒤에 같은 요청을 한 번 더 보냄, 헤지 쪽 실패는 무시하고 원래 요청 결과를 기다림
+    private Mono<GptCompletionDTO> hedge(GptCallKind kind, Map<String,Object> body, Duration deadline, Duration delay) {
+        return Mono.delay(delay).then(Mono.defer(() -> {
+            if (!callGuard.tryStartHedge()) return Mono.<GptCompletionDTO>never();
+            AtomicBoolean won = new AtomicBoolean();
+            return attempt(kind, body, deadline)
+                    .doOnSuccess(completion -> won.set(true))
+                    .doFinally(signal -> callGuard.endHedge(won.get()))
+                    .onErrorResume(e -> Mono.never());
+        }));
+    }
 
-        // 1) HTTP 헤더 설정
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(apiKey);
+    /**
+     * 스트리밍 응답(stream: true)으로 받으면서 조각(delta.content)이 올 때마다 onDelta 로 전달
+     * 응답은 server-sent events: "data: {...}" 줄마다 조각 하나, 마지막은 "data: [DONE]"
+     * 반환 값은 전체 응답 + 토큰 사용량(마지막 조각의 usage)
+     * - 전체 제한 시간은 없고, 첫 조각과 조각 사이 간격에만 제한 시간을 둠 (GptCallGuard.watchStream)
+     *   → 계속 조각을 보내는 긴 일정은 끝까지 받고, 멈춘 업스트림만 끊어서 실패로 반영
+     */
+    public GptCompletionDTO streamCompletion(String userMessage, Map<String,Object> responseFormat,
+                                             Consumer<String> onDelta) {
+        Map<String,Object> body = requestBody(userMessage, responseFormat, MAX_TOKENS);
+        body.put("stream", true);
+        body.put("stream_options", Map.of("include_usage", true));
 
-        // 2) 메시지 조립: system + 최근 대화(MAX_HISTORY) + 이번 질문
+        GptCallGuard.Permit permit = callGuard.acquire(GptCallKind.STREAM);
+        Duration firstByteTimeout = callGuard.firstByteTimeout(userMessage);
+        GptCompletionDTO streamed;
+        long firstByteNanos;
+        try (GptCallGuard.Watch watch = callGuard.watchStream(firstByteTimeout)) {
+            try {
+                streamed = readStream(body, onDelta, watch);
+                firstByteNanos = watch.getFirstByteNanos();
+            } catch (RuntimeException e) {
+                if (watch.isExpired()) {
+                    // 첫 조각 전에 끊었으면 첫 응답 지연 표본으로도 넣음, 도중에 멈춘 경우는 실패로만 반영
+                    if (watch.getFirstByteNanos() < 0) {
+                        permit.timeout(firstByteTimeout);
+                    } else {
+                        permit.failure(new TimeoutException());
+                    }
+                    throw new GeneralException(ErrorStatus.GPT_UNAVAILABLE);
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    permit.cancel();   // 호출한 쪽이 취소함
+                } else {
+                    permit.failure(e);
+                }
+                throw e;
+            }
+        }
+        // 스트리밍 호출의 지연 표본은 첫 조각까지의 시간
+        if (firstByteNanos >= 0) {
+            permit.success(firstByteNanos);
+        } else {
+            permit.success();
+        }
+
+        if (streamed == null || streamed.getContent().isBlank()) {
+            return completion(ERROR_MESSAGE, null);
+        }
+        return streamed.toBuilder().content(streamed.getContent().trim()).build();
+    }
+
+    // 스트리밍 요청 + 응답 읽기 (줄마다 watch 에 알리고, 제한 시간이 지나면 watch 가 응답을 닫아서 읽기가 끝남)
+    private GptCompletionDTO readStream(Map<String,Object> body, Consumer<String> onDelta, GptCallGuard.Watch watch) {
+        return restTemplate.execute(API_URL, HttpMethod.POST,
+                request -> {
+                    request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    request.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+                    request.getHeaders().setBearerAuth(apiKey);
+                    objectMapper.writeValue(request.getBody(), body);
+                },
+                response -> {
+                    watch.attach(response);
+                    StringBuilder full = new StringBuilder();
+                    JsonNode usage = null;
+                    BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(response.getBody(), StandardCharsets.UTF_8));
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        watch.touch();
+                        if (!line.startsWith("data:")) continue;   // 빈 줄, 주석(:) 등
+                        String data = line.substring(5).trim();
+                        if ("[DONE]".equals(data)) break;
+
+                        JsonNode chunk = objectMapper.readTree(data);
+                        if (chunk.hasNonNull("usage")) usage = chunk.get("usage");
+
+                        JsonNode delta = chunk.path("choices").path(0).path("delta");
+                        String piece = delta.path("content").asText("");
+                        if (!piece.isEmpty()) {
+                            full.append(piece);
+                            onDelta.accept(piece);
+                        }
+                    }
+                    return completion(full.toString(), usage);
+                });
+    }
+
+    // 메시지 조립: system + 이번 질문
+    private Map<String,Object> requestBody(String userMessage, Map<String,Object> responseFormat, int maxTokens) {
         List<Map<String,String>> messages = new ArrayList<>();
 
         // system 프롬프트
@@ -41,31 +249,29 @@ public class ChatGptService {
                 "content", userMessage
         ));
 
-        // 3) 요청 바디 구성
         Map<String,Object> body = new HashMap<>();
         body.put("model", "gpt-4o");  // 테스트 끝나면 gpt-3.5-turbo -> gpt-4o로 변경
         body.put("messages",    messages);
-        body.put("max_tokens",  8000);
+        body.put("max_tokens",  maxTokens);
         body.put("temperature", 0.5);   // 낮으면 정확도, 일관성   높으면 창의성, 다양한 표현
+        if (responseFormat != null) {
+            body.put("response_format", responseFormat);   // 구조화 출력 (json_schema)
+        }
+        return body;
+    }
 
-
-        // 4) API 호출
-        HttpEntity<Map<String,Object>> requestEntity = new HttpEntity<>(body, headers);
-        ResponseEntity<Map> response = restTemplate.exchange(
-                API_URL, HttpMethod.POST, requestEntity, Map.class
-        );
-
-        // 5) 응답 파싱
-        if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-            List<?> choices = (List<?>) response.getBody().get("choices");
-            if (!choices.isEmpty()) {
-                Map<?,?> choice = (Map<?,?>) choices.get(0);
-                Map<?,?> message = (Map<?,?>) choice.get("message");
-                return message.get("content").toString().trim();
-            }
+    private static boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException re) {
+            return re.getStatusCode().value() == 429 || re.getStatusCode().is5xxServerError();
         }
+        return e instanceof WebClientRequestException;
+    }
 
-        // 오류 시 기본 메시지
-        return "죄송합니다, 답변 생성 중 오류가 발생했습니다.";
+    private static GptCompletionDTO completion(String content, JsonNode usage) {
+        return GptCompletionDTO.builder()
+                .content(content)
+                .promptTokens(usage == null ? 0 : usage.path("prompt_tokens").asInt(0))
+                .completionTokens(usage == null ? 0 : usage.path("completion_tokens").asInt(0))
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,191 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.domain.gpt_place.util.GeoUtils;
+import com.example.travel_project.domain.gpt_place.web.dto.GptScheduleDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceListsDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 하루 동선 최적화 (일정 생성 후 단계)
+ * 식사·체크인·체크아웃처럼 시간이 정해진 항목은 그대로 두고, 그 사이에 연달아 있는 관광·카페 항목들의 순서만 바꿔서
+ * 앞 고정 항목 → 관광/카페들 → 뒤 고정 항목 이동 거리 합을 줄임
+ * - 거리는 구간마다 haversine 거리 행렬을 만들어 사용, 순서는 최근접 이웃으로 만든 뒤 2-opt 로 개선
+ * - 바뀐 순서대로 각 항목의 길이와 원래 칸 사이 간격을 유지하며 시간을 다시 매기므로 구간의 시작·끝 시각은 그대로
+ * - 좌표를 모르는 장소(목록에 없는 이름, 좌표 0)는 고정 항목으로 취급
+ * 원래 순서보다 1m 이상 짧아질 때만 바꿈
+ */
+@Component
+public class DailyRouteOptimizer {
+
+    private static final double MIN_IMPROVEMENT_METERS = 1.0;
+
+    /**
+     * 일정 항목들의 시간을 동선 순서에 맞게 바꿈 (리스트 자체의 순서는 유지)
+     * 반환 값은 줄어든 이동 거리 합(m)
+     */
+    public double optimize(List<GptScheduleDTO> schedules, PlaceListsDTO placeLists) {
+        Map<String, PlaceDTO> locations = locations(placeLists);
+
+        Map<Integer, List<GptScheduleDTO>> byDay = new TreeMap<>();
+        for (GptScheduleDTO schedule : schedules) {
+            byDay.computeIfAbsent(schedule.getDay(), d -> new ArrayList<>()).add(schedule);
+        }
+
+        double saved = 0;
+        for (List<GptScheduleDTO> day : byDay.values()) {
+            day.sort(Comparator.comparingDouble(GptScheduleDTO::getStartTime));
+
+            List<Stop> segment = new ArrayList<>();
+            Stop before = null;
+            for (GptScheduleDTO schedule : day) {
+                Stop stop = new Stop(schedule, locate(locations, schedule.getPlace()));
+                if (stop.place != null && isFlexible(schedule)) {
+                    segment.add(stop);
+                    continue;
+                }
+                saved += reorder(before, segment, stop);
+                segment.clear();
+                before = stop;
+            }
+            saved += reorder(before, segment, null);
+        }
+        return saved;
+    }
+
+    // 구간 하나 최적화: before / after 는 앞뒤 고정 항목 (없거나 좌표를 모르면 거리 0)
+    private double reorder(Stop before, List<Stop> segment, Stop after) {
+        int k = segment.size();
+        if (k < 2) return 0;
+
+        // 0 = 앞 고정 항목, 1..k = 구간 항목, k + 1 = 뒤 고정 항목
+        int n = k + 2;
+        PlaceDTO[] nodes = new PlaceDTO[n];
+        nodes[0] = before != null ? before.place : null;
+        for (int i = 0; i < k; i++) nodes[i + 1] = segment.get(i).place;
+        nodes[n - 1] = after != null ? after.place : null;
+
+        double[][] distance = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double d = (nodes[i] == null || nodes[j] == null) ? 0
+                        : GeoUtils.haversineMeters(nodes[i].getLat(), nodes[i].getLng(), nodes[j].getLat(), nodes[j].getLng());
+                distance[i][j] = d;
+                distance[j][i] = d;
+            }
+        }
+
+        int[] original = new int[n];
+        for (int i = 0; i < n; i++) original[i] = i;
+        int[] route = twoOpt(nearestNeighbour(distance), distance);
+
+        double saved = length(original, distance) - length(route, distance);
+        if (saved < MIN_IMPROVEMENT_METERS) return 0;
+
+        // 원래 칸들의 시작 시각과 칸 사이 간격을 유지하면서 새 순서대로 시간 재배치
+        double[] durations = new double[k];
+        double[] gaps = new double[k];
+        for (int i = 0; i < k; i++) {
+            GptScheduleDTO s = segment.get(i).schedule;
+            durations[i] = s.getEndTime() - s.getStartTime();
+            gaps[i] = (i + 1 < k) ? segment.get(i + 1).schedule.getStartTime() - s.getEndTime() : 0;
+        }
+        double time = segment.get(0).schedule.getStartTime();
+        for (int pos = 0; pos < k; pos++) {
+            int index = route[pos + 1] - 1;
+            GptScheduleDTO s = segment.get(index).schedule;
+            s.setStartTime(time);
+            s.setEndTime(time + durations[index]);
+            time = s.getEndTime() + gaps[pos];
+        }
+        return saved;
+    }
+
+    // 0번에서 시작해 가장 가까운 곳을 차례로 방문, 마지막은 n - 1 번
+    private static int[] nearestNeighbour(double[][] distance) {
+        int n = distance.length;
+        int[] route = new int[n];
+        boolean[] visited = new boolean[n];
+        route[0] = 0;
+        route[n - 1] = n - 1;
+        visited[0] = true;
+        visited[n - 1] = true;
+
+        for (int pos = 1; pos < n - 1; pos++) {
+            int current = route[pos - 1];
+            int best = -1;
+            for (int candidate = 1; candidate < n - 1; candidate++) {
+                if (visited[candidate]) continue;
+                if (best < 0 || distance[current][candidate] < distance[current][best]) best = candidate;
+            }
+            route[pos] = best;
+            visited[best] = true;
+        }
+        return route;
+    }
+
+    // 양 끝을 고정한 경로에 대해 구간 뒤집기로 더 이상 줄지 않을 때까지 개선
+    private static int[] twoOpt(int[] route, double[][] distance) {
+        int n = route.length;
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int i = 1; i < n - 2; i++) {
+                for (int j = i + 1; j < n - 1; j++) {
+                    double delta = distance[route[i - 1]][route[j]] + distance[route[i]][route[j + 1]]
+                            - distance[route[i - 1]][route[i]] - distance[route[j]][route[j + 1]];
+                    if (delta < -1e-9) {
+                        for (int a = i, b = j; a < b; a++, b--) {
+                            int tmp = route[a];
+                            route[a] = route[b];
+                            route[b] = tmp;
+                        }
+                        improved = true;
+                    }
+                }
+            }
+        }
+        return route;
+    }
+
+    private static double length(int[] route, double[][] distance) {
+        double total = 0;
+        for (int i = 0; i + 1 < route.length; i++) {
+            total += distance[route[i]][route[i + 1]];
+        }
+        return total;
+    }
+
+    // 관광·카페 항목만 순서를 바꿀 수 있음
+    private static boolean isFlexible(GptScheduleDTO schedule) {
+        String title = schedule.getTitle();
+        return title != null && (title.contains("관광") || title.contains("카페"));
+    }
+
+    // 장소 이름 → 좌표가 있는 장소 (공백 차이는 무시)
+    private static Map<String, PlaceDTO> locations(PlaceListsDTO placeLists) {
+        Map<String, PlaceDTO> locations = new HashMap<>();
+        for (List<PlaceDTO> list : Arrays.asList(placeLists.getAttractionList(), placeLists.getRestaurantList(),
+                placeLists.getCafeList(), placeLists.getHotelList())) {
+            if (list == null) continue;
+            for (PlaceDTO place : list) {
+                if (place.getName() == null || (place.getLat() == 0 && place.getLng() == 0)) continue;
+                locations.putIfAbsent(nameKey(place.getName()), place);
+            }
+        }
+        return locations;
+    }
+
+    private static PlaceDTO locate(Map<String, PlaceDTO> locations, String name) {
+        return name == null ? null : locations.get(nameKey(name));
+    }
+
+    private static String nameKey(String name) {
+        return name.replaceAll("\\s+", "");
+    }
+
+    private record Stop(GptScheduleDTO schedule, PlaceDTO place) {
+    }
+}
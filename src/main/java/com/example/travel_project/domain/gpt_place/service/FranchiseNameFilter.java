@@ -0,0 +1,188 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 프렌차이즈 이름 필터
+ * 제외할 이름 목록으로 Aho-Corasick 오토마톤을 한 번 만들어 두고, 장소 이름을 한 번만 훑어서 포함 여부를 판단
+ * 이름은 NFKC 정규화 + 소문자 + 글자/숫자 외 문자(공백, 기호) 제거 후 비교하므로
+ * "투썸 플레이스", "KFC"/"kfc", "Paik's" 같은 띄어쓰기·대소문자·기호 변형도 같은 이름으로 처리
+ * google.places.franchise.exclude-file 을 지정하면 기본 목록에 파일의 이름(한 줄에 하나, # 주석)을 더하고,
+ * 파일이 바뀌면 다시 읽어서 오토마톤을 교체
+ */
+@Slf4j
+@Component
+public class FranchiseNameFilter {
+
+    // 기본 제외 목록 (한글/영문 표기)
+    private static final List<String> DEFAULT_NAMES = List.of(
+            "스타벅스", "투썸", "투썸플레이스", "이디야", "커피빈", "빽다방", "컴포즈커피",
+            "엔제리너스", "탐앤탐스", "파리바게뜨", "뚜레쥬르", "던킨도너츠", "베스킨라빈스",
+            "맥도날드", "버거킹", "롯데리아", "KFC", "BHC", "BBQ", "푸라닭",
+            "교촌치킨", "굽네치킨", "네네치킨", "페리카나", "도미노피자",
+            "피자헛", "미스터피자", "본죽",
+            "Starbucks", "Twosome Place", "Ediya", "Coffee Bean", "Paik's Coffee", "Compose Coffee",
+            "Angel-in-us", "Tom N Toms", "Paris Baguette", "Tous Les Jours", "Dunkin", "Baskin Robbins",
+            "McDonald's", "Burger King", "Lotteria", "Domino's Pizza", "Pizza Hut", "Mr. Pizza"
+    );
+
+    @Value("${google.places.franchise.exclude-file:}")
+    private String excludeFile;
+
+    private volatile Automaton automaton = Automaton.build(DEFAULT_NAMES);
+    private volatile long loadedFileModified = -1L;
+
+    @PostConstruct
+    public void init() {
+        reloadIfChanged();
+    }
+
+    /**
+     * 이름에 제외 목록의 이름이 하나라도 들어 있으면 true
+     */
+    public boolean matches(String name) {
+        return name != null && automaton.matches(name);
+    }
+
+    @Scheduled(fixedDelayString = "${google.places.franchise.reload-interval-ms:60000}")
+    public void reloadIfChanged() {
+        if (excludeFile == null || excludeFile.isBlank()) return;
+
+        Path path = Path.of(excludeFile);
+        try {
+            long modified = Files.getLastModifiedTime(path).toMillis();
+            if (modified == loadedFileModified) return;
+
+            List<String> names = new ArrayList<>(DEFAULT_NAMES);
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                String trimmed = line.trim();
+                if (!trimmed.isEmpty() && !trimmed.startsWith("#")) {
+                    names.add(trimmed);
+                }
+            }
+            automaton = Automaton.build(names);
+            loadedFileModified = modified;
+            log.info("프렌차이즈 제외 목록 갱신: {}개", names.size());
+        } catch (IOException e) {
+            log.warn("프렌차이즈 제외 목록을 읽지 못했습니다: {} ({})", path, e.getMessage());
+        }
+    }
+
+    // 비교용 문자 정규화: 글자·숫자만 남기고 소문자로
+    private static String normalize(String text) {
+        String nfkc = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        StringBuilder sb = new StringBuilder(nfkc.length());
+        for (int i = 0; i < nfkc.length(); i++) {
+            char c = nfkc.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Aho-Corasick 오토마톤 (불변, 여러 스레드에서 동시에 사용)
+     */
+    private static final class Automaton {
+        private final List<Map<Character, Integer>> next;
+        private final int[] fail;
+        private final boolean[] terminal;
+
+        private Automaton(List<Map<Character, Integer>> next, int[] fail, boolean[] terminal) {
+            this.next = next;
+            this.fail = fail;
+            this.terminal = terminal;
+        }
+
+        static Automaton build(Collection<String> names) {
+            List<Map<Character, Integer>> next = new ArrayList<>();
+            List<Boolean> terminalList = new ArrayList<>();
+            next.add(new HashMap<>());
+            terminalList.add(false);
+
+            // 1) 트라이 구성
+            for (String name : names) {
+                String pattern = normalize(name);
+                if (pattern.isEmpty()) continue;
+                int state = 0;
+                for (int i = 0; i < pattern.length(); i++) {
+                    char c = pattern.charAt(i);
+                    Integer to = next.get(state).get(c);
+                    if (to == null) {
+                        to = next.size();
+                        next.get(state).put(c, to);
+                        next.add(new HashMap<>());
+                        terminalList.add(false);
+                    }
+                    state = to;
+                }
+                terminalList.set(state, true);
+            }
+
+            int size = next.size();
+            int[] fail = new int[size];
+            boolean[] terminal = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                terminal[i] = terminalList.get(i);
+            }
+
+            // 2) BFS 로 실패 링크 계산, 실패 링크 쪽이 종료 상태면 현재 상태도 종료로 표시
+            Deque<Integer> queue = new ArrayDeque<>();
+            for (int child : next.get(0).values()) {
+                fail[child] = 0;
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                for (Map.Entry<Character, Integer> edge : next.get(state).entrySet()) {
+                    char c = edge.getKey();
+                    int child = edge.getValue();
+                    int f = fail[state];
+                    while (f != 0 && !next.get(f).containsKey(c)) {
+                        f = fail[f];
+                    }
+                    Integer target = next.get(f).get(c);
+                    fail[child] = (target != null && target != child) ? target : 0;
+                    terminal[child] |= terminal[fail[child]];
+                    queue.add(child);
+                }
+            }
+
+            List<Map<Character, Integer>> frozen = new ArrayList<>(size);
+            for (Map<Character, Integer> edges : next) {
+                frozen.add(Map.copyOf(edges));
+            }
+            return new Automaton(frozen, fail, terminal);
+        }
+
+        // 정규화와 매칭을 한 번의 순회로 처리
+        boolean matches(String text) {
+            String nfkc = Normalizer.normalize(text, Normalizer.Form.NFKC);
+            int state = 0;
+            for (int i = 0; i < nfkc.length(); i++) {
+                char raw = nfkc.charAt(i);
+                if (!Character.isLetterOrDigit(raw)) continue;
+                char c = Character.toLowerCase(raw);
+                Integer to;
+                while ((to = next.get(state).get(c)) == null && state != 0) {
+                    state = fail[state];
+                }
+                state = (to != null) ? to : 0;
+                if (terminal[state]) return true;
+            }
+            return false;
+        }
+    }
+}
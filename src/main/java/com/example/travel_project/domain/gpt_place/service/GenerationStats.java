@@ -0,0 +1,108 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.domain.gpt_place.data.enums.GenerationMode;
+import com.example.travel_project.domain.gpt_place.web.dto.GptCompletionDTO;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 생성 방식별 지연·토큰 사용량 기록 (방식 비교용)
+ * - places.generation.duration{mode, streamed, result} : 플랜 한 건 생성 시간 (저장 포함, result = ok / empty / failed)
+ * - places.generation.gpt-duration{mode}        : GPT 호출 시간 합, 실패한 호출 포함 (다른 조회와 겹칠 수 있음)
+ * - places.generation.tokens{mode, kind}        : 플랜 한 건의 prompt / completion 토큰 합
+ * - places.generation.gpt-calls{mode}           : 플랜 한 건의 GPT 호출 수 (실패한 호출 포함)
+ * - places.schedule.source{source}                : 일정 생성 경로 (gpt / local / GPT 실패 후 fallback / 빠진 날만 로컬로 채운 partial)
+ * - places.schedule.parse.items{result}          : 일정 응답에서 꺼낸(parsed) / 잘려서 복구한(repaired) / 버린(dropped) 항목 수
+ * - places.recommendation.parse{result}          : 구조화 출력 추천 응답 파싱 결과 (ok / invalid)
+ */
+@Component
+public class GenerationStats {
+
+    private final MeterRegistry meterRegistry;
+
+    public GenerationStats(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Usage start(GenerationMode mode, boolean streamed) {
+        return new Usage(mode, streamed);
+    }
+
+    // 성공 여부와 관계없이 플랜 한 건이 끝날 때 한 번 기록
+    public void record(Usage usage, String result) {
+        String mode = usage.mode.getKey();
+        Timer.builder("places.generation.duration")
+                .tags("mode", mode, "streamed", String.valueOf(usage.streamed), "result", result)
+                .publishPercentiles(0.5, 0.95)
+                .register(meterRegistry)
+                .record(System.nanoTime() - usage.startedAt, TimeUnit.NANOSECONDS);
+        Timer.builder("places.generation.gpt-duration")
+                .tag("mode", mode)
+                .publishPercentiles(0.5, 0.95)
+                .register(meterRegistry)
+                .record(usage.gptNanos.get(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("places.generation.tokens")
+                .tags("mode", mode, "kind", "prompt")
+                .register(meterRegistry)
+                .record(usage.promptTokens.get());
+        DistributionSummary.builder("places.generation.tokens")
+                .tags("mode", mode, "kind", "completion")
+                .register(meterRegistry)
+                .record(usage.completionTokens.get());
+        DistributionSummary.builder("places.generation.gpt-calls")
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(usage.calls.get());
+    }
+
+    public void recordScheduleSource(String source) {
+        meterRegistry.counter("places.schedule.source", "source", source).increment();
+    }
+
+    public void recordParse(int parsed, int repaired, int dropped) {
+        meterRegistry.counter("places.schedule.parse.items", "result", "parsed").increment(parsed);
+        meterRegistry.counter("places.schedule.parse.items", "result", "repaired").increment(repaired);
+        meterRegistry.counter("places.schedule.parse.items", "result", "dropped").increment(dropped);
+    }
+
+    public void recordRecommendationParse(boolean valid) {
+        meterRegistry.counter("places.recommendation.parse", "result", valid ? "ok" : "invalid").increment();
+    }
+
+    /**
+     * 플랜 한 건의 사용량 (GPT 응답은 다른 스레드에서 올 수 있으므로 원자 변수 사용)
+     */
+    public static final class Usage {
+        private final GenerationMode mode;
+        private final boolean streamed;
+        private final long startedAt = System.nanoTime();
+        private final AtomicLong gptNanos = new AtomicLong();
+        private final AtomicLong promptTokens = new AtomicLong();
+        private final AtomicLong completionTokens = new AtomicLong();
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private Usage(GenerationMode mode, boolean streamed) {
+            this.mode = mode;
+            this.streamed = streamed;
+        }
+
+        public void add(GptCompletionDTO completion, long elapsedNanos) {
+            calls.incrementAndGet();
+            gptNanos.addAndGet(elapsedNanos);
+            promptTokens.addAndGet(completion.getPromptTokens());
+            completionTokens.addAndGet(completion.getCompletionTokens());
+        }
+
+        // 실패한 호출 (토큰 사용량은 알 수 없음)
+        public void addFailed(long elapsedNanos) {
+            calls.incrementAndGet();
+            gptNanos.addAndGet(elapsedNanos);
+        }
+    }
+}
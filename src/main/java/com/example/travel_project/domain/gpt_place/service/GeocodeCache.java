@@ -0,0 +1,106 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.domain.gpt_place.web.dto.GeocodeDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Geocoding 결과 캐시
+ * 정규화한 검색어를 키로 좌표와 주소를 함께 저장해서 searchPlaces / geocode / extractAddress 가 같은 결과를 공유
+ * 크기를 넘으면 가장 오래 안 쓴 항목부터 제거(LRU)하고, ttl 이 지난 항목은 다시 조회
+ * 결과가 없는 검색어(ZERO_RESULTS)는 negativeTtl 동안만 저장하고, 조회 오류는 저장하지 않음
+ */
+@Component
+public class GeocodeCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+
+    private final Map<String, CachedGeocode> entries;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public GeocodeCache(
+            MeterRegistry meterRegistry,
+            @Value("${google.geocode.cache.max-size:2000}") int maxSize,
+            @Value("${google.geocode.cache.ttl-minutes:1440}") long ttlMinutes,
+            @Value("${google.geocode.cache.negative-ttl-minutes:10}") long negativeTtlMinutes
+    ) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMinutes * 60_000L;
+        this.negativeTtlMillis = negativeTtlMinutes * 60_000L;
+        this.hits = meterRegistry.counter("places.geocode.cache", "result", "hit");
+        this.misses = meterRegistry.counter("places.geocode.cache", "result", "miss");
+        this.evictions = meterRegistry.counter("places.geocode.cache.evictions");
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedGeocode> eldest) {
+                boolean evict = size() > GeocodeCache.this.maxSize;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+        meterRegistry.gauge("places.geocode.cache.size", entries, m -> {
+            synchronized (m) {
+                return m.size();
+            }
+        });
+    }
+
+    /**
+     * 캐시에 있으면 그대로 반환하고, 없거나 만료됐으면 loader 로 조회한 뒤 저장
+     * 결과가 없는 검색어(Optional.empty)는 짧게 저장해서 같은 잘못된 지역명을 반복 조회하지 않음
+     * loader 가 예외로 끝나면(한도 초과, 권한 오류 등) 저장하지 않고 그대로 전달 → 다음 요청에서 다시 조회
+     */
+    public Optional<GeocodeDTO> get(String query, Function<String, Optional<GeocodeDTO>> loader) {
+        String key = normalize(query);
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            CachedGeocode entry = entries.get(key);
+            if (entry != null && entry.expiresAt > now) {
+                hits.increment();
+                return entry.result;
+            }
+        }
+
+        misses.increment();
+        Optional<GeocodeDTO> result = loader.apply(query);
+
+        long ttl = result.isPresent() ? ttlMillis : negativeTtlMillis;
+        if (ttl > 0) {
+            synchronized (entries) {
+                entries.put(key, new CachedGeocode(result, System.currentTimeMillis() + ttl));
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    // 앞뒤 공백 제거, 연속 공백 하나로, 영문 소문자화
+    static String normalize(String query) {
+        if (query == null) return "";
+        return query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private record CachedGeocode(Optional<GeocodeDTO> result, long expiresAt) {
+    }
+}
@@ -0,0 +1,457 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.apiPayload.code.status.ErrorStatus;
+import com.example.travel_project.apiPayload.exception.GeneralException;
+import com.example.travel_project.domain.gpt_place.data.enums.GptCallKind;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OpenAI 호출 보호 장치 (ChatGptService 에서 사용)
+ * 지연 분포는 호출 종류(GptCallKind)별로 따로 모음: 짧은 추천과 긴 일정 응답을 섞지 않음
+ * - 호출별 제한 시간: 같은 종류 호출의 최근 지연 분위수(기본 p99) × latency-factor,
+ *   표본이 부족하면 base + 프롬프트 길이 + 예상 출력 토큰(expected-output-tokens, max_tokens 이하)에 비례
+ *   어느 쪽이든 openai.deadline.max-ms(기본 60초)를 넘지 않음 → 멈춘 업스트림을 오래 기다리지 않음
+ *   시간 초과로 끊은 호출도 끊은 시점의 지연을 표본으로 넣어서(실제 지연은 그 이상) 제한 시간이 늘어날 수 있게 함
+ * - 스트리밍 호출은 전체 제한 시간 대신 첫 응답 제한 시간(같은 방식으로 정하되 출력 토큰은 빼고 계산)과
+ *   조각 사이 제한 시간(openai.stream.idle-timeout-ms)만 둠 → 계속 조각을 보내는 긴 응답은 끊지 않음
+ * - 헤지(hedge) 지연: 같은 종류 호출의 최근 지연 분위수(기본 p95), 표본이 부족하면 헤지하지 않음
+ * - 서킷 브레이커: 최근 window 개 결과 중 실패(5xx, 429, 연결 오류, 시간 초과) 비율이 failure-rate 이상이면 OPEN,
+ *   OPEN 동안은 바로 GPT_UNAVAILABLE 로 실패하고, open-ms 가 지나면 HALF_OPEN 에서 시험 호출 하나만 허용
+ *   (성공하면 CLOSED, 실패하면 다시 OPEN)
+ * 지표: openai.breaker.state(0 CLOSED / 1 OPEN / 2 HALF_OPEN), openai.breaker.transitions{to},
+ *       openai.calls{result}, openai.hedges{result}, openai.latency{kind} (성공한 호출만)
+ */
+@Slf4j
+@Component
+public class GptCallGuard {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final MeterRegistry meterRegistry;
+
+    private final long maxDeadlineMs;
+    private final long baseDeadlineMs;
+    private final double perPromptKiloCharMs;
+    private final double perOutputTokenMs;
+    private final int expectedOutputTokens;
+    private final double deadlinePercentile;
+    private final double deadlineLatencyFactor;
+    private final long streamIdleTimeoutMs;
+
+    private final boolean hedgeEnabled;
+    private final double hedgePercentile;
+    private final int hedgeMinSamples;
+    private final int hedgeMaxInFlight;
+    private final AtomicInteger hedgesInFlight = new AtomicInteger();
+    private final Map<GptCallKind, LatencyWindow> latencies = new EnumMap<>(GptCallKind.class);
+
+    private final int breakerMinCalls;
+    private final double breakerFailureRate;
+    private final long breakerOpenNanos;
+    private final boolean[] outcomes;   // 최근 결과 (true = 실패), 원형 버퍼
+    private int outcomeCount = 0;
+    private int outcomeNext = 0;
+    private int failures = 0;
+    private volatile State state = State.CLOSED;
+    private long openedAt;
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+
+    // 스트리밍 응답 제한 시간(첫 응답·조각 사이) 처리용
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "openai-deadline");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public GptCallGuard(
+            MeterRegistry meterRegistry,
+            @Value("${openai.deadline.max-ms:60000}") long maxDeadlineMs,
+            @Value("${openai.deadline.base-ms:5000}") long baseDeadlineMs,
+            @Value("${openai.deadline.per-prompt-kchar-ms:500}") double perPromptKiloCharMs,
+            @Value("${openai.deadline.per-output-token-ms:12}") double perOutputTokenMs,
+            @Value("${openai.deadline.expected-output-tokens:2000}") int expectedOutputTokens,
+            @Value("${openai.deadline.percentile:0.99}") double deadlinePercentile,
+            @Value("${openai.deadline.latency-factor:1.5}") double deadlineLatencyFactor,
+            @Value("${openai.stream.idle-timeout-ms:20000}") long streamIdleTimeoutMs,
+            @Value("${openai.hedge.enabled:true}") boolean hedgeEnabled,
+            @Value("${openai.hedge.percentile:0.95}") double hedgePercentile,
+            @Value("${openai.hedge.min-samples:20}") int hedgeMinSamples,
+            @Value("${openai.hedge.max-in-flight:4}") int hedgeMaxInFlight,
+            @Value("${openai.breaker.window:20}") int breakerWindow,
+            @Value("${openai.breaker.min-calls:10}") int breakerMinCalls,
+            @Value("${openai.breaker.failure-rate:0.5}") double breakerFailureRate,
+            @Value("${openai.breaker.open-ms:30000}") long breakerOpenMs
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.maxDeadlineMs = maxDeadlineMs;
+        this.baseDeadlineMs = baseDeadlineMs;
+        this.perPromptKiloCharMs = perPromptKiloCharMs;
+        this.perOutputTokenMs = perOutputTokenMs;
+        this.expectedOutputTokens = expectedOutputTokens;
+        this.deadlinePercentile = deadlinePercentile;
+        this.deadlineLatencyFactor = deadlineLatencyFactor;
+        this.streamIdleTimeoutMs = streamIdleTimeoutMs;
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgePercentile = hedgePercentile;
+        this.hedgeMinSamples = hedgeMinSamples;
+        this.hedgeMaxInFlight = hedgeMaxInFlight;
+        this.outcomes = new boolean[Math.max(1, breakerWindow)];
+        this.breakerMinCalls = Math.min(breakerMinCalls, outcomes.length);
+        this.breakerFailureRate = breakerFailureRate;
+        this.breakerOpenNanos = TimeUnit.MILLISECONDS.toNanos(breakerOpenMs);
+        for (GptCallKind kind : GptCallKind.values()) {
+            latencies.put(kind, new LatencyWindow(100));
+        }
+        meterRegistry.gauge("openai.breaker.state", this, guard -> guard.state.ordinal());
+    }
+
+    /**
+     * 호출 제한 시간
+     * 같은 종류 호출의 최근 지연이 충분히 쌓였으면 그 분위수 × latencyFactor,
+     * 아니면 프롬프트 길이와 예상 출력 토큰으로 추정 (max_tokens 는 상한일 뿐 실제 출력은 대개 훨씬 짧음)
+     */
+    public Duration deadline(GptCallKind kind, String prompt, int maxTokens) {
+        return limit(kind, prompt, perOutputTokenMs * Math.min(maxTokens, expectedOutputTokens));
+    }
+
+    // 스트리밍 호출의 첫 응답 제한 시간 (출력 길이와 관계없이 프롬프트 처리 시간만 추정)
+    public Duration firstByteTimeout(String prompt) {
+        return limit(GptCallKind.STREAM, prompt, 0);
+    }
+
+    private Duration limit(GptCallKind kind, String prompt, double outputMs) {
+        double ms;
+        long observed = latencies.get(kind).percentile(deadlinePercentile, hedgeMinSamples);
+        if (observed > 0) {
+            ms = Math.max(baseDeadlineMs, TimeUnit.NANOSECONDS.toMillis(observed) * deadlineLatencyFactor);
+        } else {
+            ms = baseDeadlineMs + perPromptKiloCharMs * prompt.length() / 1000.0 + outputMs;
+        }
+        return Duration.ofMillis(Math.min(maxDeadlineMs, (long) ms));
+    }
+
+    /**
+     * 호출 허가: OPEN 이면 GPT_UNAVAILABLE, HALF_OPEN 이면 시험 호출 하나만 허용
+     * 받은 Permit 으로 결과를 꼭 한 번 알려야 함
+     */
+    public Permit acquire(GptCallKind kind) {
+        boolean trial = false;
+        synchronized (this) {
+            if (state == State.OPEN && System.nanoTime() - openedAt >= breakerOpenNanos) {
+                transition(State.HALF_OPEN);
+            }
+            if (state == State.OPEN) {
+                reject();
+            }
+            if (state == State.HALF_OPEN) {
+                if (!trialInFlight.compareAndSet(false, true)) reject();
+                trial = true;
+            }
+        }
+        return new Permit(kind, trial);
+    }
+
+    /**
+     * 같은 종류 호출의 최근 지연 분위수, 헤지를 하지 않으면 empty
+     */
+    public Optional<Duration> hedgeDelay(GptCallKind kind) {
+        if (!hedgeEnabled || state != State.CLOSED) return Optional.empty();
+        long nanos = latencies.get(kind).percentile(hedgePercentile, hedgeMinSamples);
+        return nanos > 0 ? Optional.of(Duration.ofNanos(nanos)) : Optional.empty();
+    }
+
+    // 헤지 호출 시작 (동시에 나가 있는 헤지 수 제한), 시작했으면 끝날 때 endHedge
+    public boolean tryStartHedge() {
+        if (hedgesInFlight.incrementAndGet() > hedgeMaxInFlight) {
+            hedgesInFlight.decrementAndGet();
+            meterRegistry.counter("openai.hedges", "result", "skipped").increment();
+            return false;
+        }
+        meterRegistry.counter("openai.hedges", "result", "launched").increment();
+        return true;
+    }
+
+    public void endHedge(boolean won) {
+        hedgesInFlight.decrementAndGet();
+        if (won) meterRegistry.counter("openai.hedges", "result", "won").increment();
+    }
+
+    /**
+     * 스트리밍 응답 읽기용 제한 시간 감시, try-with-resources 로 사용
+     * 첫 조각은 firstByteTimeout 안에, 그 뒤로는 조각 사이가 idle-timeout-ms 안에 와야 함 (전체 시간은 제한하지 않음)
+     * 제한 시간이 지나면 attach 한 응답을 닫고, 아직 응답 전이면 호출 스레드를 interrupt
+     */
+    public Watch watchStream(Duration firstByteTimeout) {
+        Watch watch = new Watch(Thread.currentThread(), timer,
+                firstByteTimeout.toNanos(), TimeUnit.MILLISECONDS.toNanos(streamIdleTimeoutMs));
+        watch.start();
+        return watch;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    // 업스트림 상태와 관계있는 실패인지 (요청 자체가 잘못된 4xx 는 제외)
+    public static boolean isUpstreamFailure(Throwable e) {
+        if (e instanceof WebClientResponseException re) {
+            return re.getStatusCode().value() == 429 || re.getStatusCode().is5xxServerError();
+        }
+        return e instanceof WebClientRequestException
+                || e instanceof TimeoutException
+                || e instanceof IOException
+                || e instanceof ResourceAccessException
+                || e instanceof HttpServerErrorException
+                || (e instanceof HttpClientErrorException ce && ce.getStatusCode().value() == 429);
+    }
+
+    private void reject() {
+        meterRegistry.counter("openai.calls", "result", "rejected").increment();
+        throw new GeneralException(ErrorStatus.GPT_UNAVAILABLE);
+    }
+
+    private synchronized void recordOutcome(boolean failed, boolean trial) {
+        if (trial) {
+            trialInFlight.set(false);
+            if (failed) {
+                transition(State.OPEN);
+            } else {
+                resetWindow();
+                transition(State.CLOSED);
+            }
+            return;
+        }
+        if (state != State.CLOSED) return;   // 열린 뒤에 끝난 호출은 창에 넣지 않음
+
+        if (outcomeCount == outcomes.length) {
+            if (outcomes[outcomeNext]) failures--;
+        } else {
+            outcomeCount++;
+        }
+        outcomes[outcomeNext] = failed;
+        if (failed) failures++;
+        outcomeNext = (outcomeNext + 1) % outcomes.length;
+
+        if (outcomeCount >= breakerMinCalls && failures >= breakerFailureRate * outcomeCount) {
+            transition(State.OPEN);
+        }
+    }
+
+    private void resetWindow() {
+        Arrays.fill(outcomes, false);
+        outcomeCount = 0;
+        outcomeNext = 0;
+        failures = 0;
+    }
+
+    private void transition(State to) {
+        if (state == to) return;
+        log.warn("OpenAI 서킷 브레이커: {} → {}", state, to);
+        state = to;
+        if (to == State.OPEN) {
+            openedAt = System.nanoTime();
+            resetWindow();
+        }
+        meterRegistry.counter("openai.breaker.transitions", "to", to.name().toLowerCase()).increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    /**
+     * 호출 한 건의 허가 (결과는 한 번만 반영)
+     */
+    public final class Permit {
+        private final GptCallKind kind;
+        private final boolean trial;
+        private final long startedAt = System.nanoTime();
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Permit(GptCallKind kind, boolean trial) {
+            this.kind = kind;
+            this.trial = trial;
+        }
+
+        // 허가받은 뒤 지난 시간을 지연으로 기록
+        public void success() {
+            success(System.nanoTime() - startedAt);
+        }
+
+        // 지연을 따로 잰 경우 (스트리밍: 첫 응답까지의 시간)
+        public void success(long latencyNanos) {
+            if (!done.compareAndSet(false, true)) return;
+            latencies.get(kind).add(latencyNanos);
+            Timer.builder("openai.latency")
+                    .tag("kind", kind.getKey())
+                    .publishPercentiles(0.5, 0.95)
+                    .register(meterRegistry)
+                    .record(latencyNanos, TimeUnit.NANOSECONDS);
+            meterRegistry.counter("openai.calls", "result", "success").increment();
+            recordOutcome(false, trial);
+        }
+
+        /**
+         * 제한 시간(limit)에 걸려 끊은 호출: 실패로 반영하고 limit 을 지연 표본으로 넣음 (실제 지연은 그 이상)
+         * 성공한 호출만 모으면 제한 시간이 이미 그 안에 든 호출들의 지연보다 커질 수 없기 때문
+         */
+        public void timeout(Duration limit) {
+            if (!done.compareAndSet(false, true)) return;
+            latencies.get(kind).add(limit.toNanos());
+            recordFailure(new TimeoutException());
+        }
+
+        public void failure(Throwable e) {
+            if (!done.compareAndSet(false, true)) return;
+            recordFailure(e);
+        }
+
+        // 결과 없이 끝남 (취소): 시험 호출이었으면 다음 호출이 시험할 수 있게 풀어줌
+        public void cancel() {
+            if (!done.compareAndSet(false, true)) return;
+            if (trial) trialInFlight.set(false);
+        }
+
+        private void recordFailure(Throwable e) {
+            boolean upstream = isUpstreamFailure(e);
+            meterRegistry.counter("openai.calls", "result",
+                    e instanceof TimeoutException ? "timeout" : upstream ? "failure" : "client-error").increment();
+            if (upstream) {
+                recordOutcome(true, trial);
+            } else if (trial) {
+                recordOutcome(false, true);   // 요청 오류는 업스트림이 응답했다는 뜻
+            }
+        }
+    }
+
+    /**
+     * 스트리밍 응답 감시: 처음에는 첫 응답 제한 시간, touch() 할 때마다 그때부터 idle 제한 시간으로 다시 잼
+     * (조각마다 타이머를 새로 걸지 않고, 타이머가 울렸을 때 남은 시간이 있으면 그만큼 다시 걸어둠)
+     */
+    public static final class Watch implements AutoCloseable {
+        private final Thread caller;
+        private final ScheduledExecutorService timer;
+        private final long idleNanos;
+        private final long startedAt = System.nanoTime();
+        private volatile long expiresAt;
+        private volatile long firstByteNanos = -1;
+        private ScheduledFuture<?> task;
+        private AutoCloseable resource;
+        private boolean finished = false;
+        private boolean expired = false;
+        private boolean interrupted = false;
+
+        private Watch(Thread caller, ScheduledExecutorService timer, long firstByteTimeoutNanos, long idleNanos) {
+            this.caller = caller;
+            this.timer = timer;
+            this.idleNanos = idleNanos;
+            this.expiresAt = startedAt + firstByteTimeoutNanos;
+        }
+
+        private synchronized void start() {
+            task = timer.schedule(this::expire, expiresAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        public synchronized void attach(AutoCloseable resource) {
+            this.resource = resource;
+            if (expired) closeQuietly(resource);
+        }
+
+        // 응답 조각(줄)을 받을 때마다 호출 (읽는 스레드에서만 호출)
+        public void touch() {
+            long now = System.nanoTime();
+            if (firstByteNanos < 0) firstByteNanos = now - startedAt;
+            expiresAt = now + idleNanos;
+        }
+
+        // 첫 조각까지 걸린 시간, 아직 못 받았으면 -1
+        public long getFirstByteNanos() {
+            return firstByteNanos;
+        }
+
+        public synchronized boolean isExpired() {
+            return expired;
+        }
+
+        private synchronized void expire() {
+            if (finished) return;
+            long remaining = expiresAt - System.nanoTime();
+            if (remaining > 0) {
+                task = timer.schedule(this::expire, remaining, TimeUnit.NANOSECONDS);
+                return;
+            }
+            expired = true;
+            if (resource != null) {
+                closeQuietly(resource);
+            } else {
+                interrupted = true;
+                caller.interrupt();
+            }
+        }
+
+        @Override
+        public void close() {
+            ScheduledFuture<?> last;
+            synchronized (this) {
+                finished = true;
+                last = task;
+            }
+            last.cancel(false);
+            if (interrupted) Thread.interrupted();   // 감시가 건 interrupt 만 지움
+        }
+
+        private static void closeQuietly(AutoCloseable resource) {
+            try {
+                resource.close();
+            } catch (Exception ignored) {
+            }
+        }
+    }
+
+    /**
+     * 최근 지연 원형 버퍼 (성공 + 시간 초과로 끊은 호출)
+     */
+    private static final class LatencyWindow {
+        private final long[] samples;
+        private int count = 0;
+        private int next = 0;
+
+        LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        synchronized void add(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            if (count < samples.length) count++;
+        }
+
+        synchronized long percentile(double p, int minSamples) {
+            if (count < minSamples) return -1;
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            return sorted[Math.min(count - 1, (int) Math.ceil(p * count) - 1)];
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.domain.gpt_place.util.GeoUtils;
+import com.example.travel_project.domain.gpt_place.web.dto.GptScheduleDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceListsDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * GPT 없이 장소 목록만으로 일정을 만드는 빌더 (빠른 모드 / GPT 일정 생성 실패 시 대체)
+ * 일정 프롬프트와 같은 규칙을 요일별 시간표 틀로 고정해 두고, 틀의 칸마다 장소를 채움
+ * - 1일 여행: 10시부터, 체크인·체크아웃·숙소 없음
+ * - 여러 날: 첫째 날은 점심부터 + 체크인, 마지막 날은 점심까지 + 체크아웃, 나머지 날은 세 끼 모두
+ * - 식사 시작 시각은 최소 5시간 간격, 같은 날 시간은 겹치지 않음, 중간 날은 두 가지 틀을 번갈아 사용
+ * 장소 배정은 좌표 기준:
+ * - 숙소는 상위 후보 중 관광지 중심에서 가장 가까운 곳 하나로 모든 날 사용
+ * - 관광지는 숙소에서 시작해 가장 가까운 곳을 차례로 이어 붙인 순서로 관광 칸에 배정
+ * - 식당·카페는 직전(없으면 다음) 관광지에서 가장 가까운, 아직 안 쓴 곳 (중복 없음)
+ * 좌표가 없는(0, 0) 장소는 목록 순서(점수순)대로 사용
+ * GPT 일정이 잘려서 뒷날이 빠졌으면 fillMissingDays 로 빠진 날만 같은 틀로 채움
+ */
+@Component
+public class LocalItineraryBuilder {
+
+    // 숙소를 고를 때 보는 상위 후보 수
+    private static final int HOTEL_CANDIDATES = 5;
+
+    private static final List<Slot> SINGLE_DAY = List.of(
+            new Slot(Kind.SIGHT, 10.0, 12.0),
+            new Slot(Kind.LUNCH, 12.0, 13.5),
+            new Slot(Kind.SIGHT, 14.0, 16.0),
+            new Slot(Kind.CAFE, 16.0, 17.0),
+            new Slot(Kind.DINNER, 17.5, 19.0)
+    );
+    private static final List<Slot> FIRST_DAY = List.of(
+            new Slot(Kind.LUNCH, 12.0, 13.5),
+            new Slot(Kind.SIGHT, 14.0, 16.0),
+            new Slot(Kind.CHECK_IN, 16.0, 16.5),
+            new Slot(Kind.CAFE, 16.5, 17.5),
+            new Slot(Kind.DINNER, 18.0, 19.5)
+    );
+    private static final List<Slot> MIDDLE_DAY = List.of(
+            new Slot(Kind.BREAKFAST, 8.5, 9.5),
+            new Slot(Kind.SIGHT, 10.0, 12.0),
+            new Slot(Kind.LUNCH, 13.5, 15.0),
+            new Slot(Kind.SIGHT, 15.0, 17.0),
+            new Slot(Kind.CAFE, 17.0, 18.0),
+            new Slot(Kind.DINNER, 18.5, 20.0)
+    );
+    private static final List<Slot> MIDDLE_DAY_ALT = List.of(
+            new Slot(Kind.BREAKFAST, 9.0, 10.0),
+            new Slot(Kind.SIGHT, 10.5, 12.5),
+            new Slot(Kind.CAFE, 12.5, 13.5),
+            new Slot(Kind.LUNCH, 14.0, 15.5),
+            new Slot(Kind.SIGHT, 16.0, 18.0),
+            new Slot(Kind.DINNER, 19.0, 20.5)
+    );
+    private static final List<Slot> LAST_DAY = List.of(
+            new Slot(Kind.BREAKFAST, 8.5, 9.5),
+            new Slot(Kind.CHECK_OUT, 10.0, 10.5),
+            new Slot(Kind.SIGHT, 10.5, 13.0),
+            new Slot(Kind.LUNCH, 13.5, 15.0)
+    );
+
+    /**
+     * days 일 일정 생성 (GPT 일정 응답과 같은 형태)
+     */
+    public List<GptScheduleDTO> build(int days, PlaceListsDTO placeLists) {
+        List<Integer> allDays = new ArrayList<>(days);
+        for (int day = 1; day <= days; day++) {
+            allDays.add(day);
+        }
+        return build(days, allDays, placeLists);
+    }
+
+    /**
+     * existing 일정에 항목이 하나도 없는 날만 채운 일정 (빠진 날이 없으면 빈 목록)
+     * existing 에 나온 장소는 다시 쓰지 않고, existing 의 체크인·체크아웃 숙소가 숙소 목록에 있으면 그 숙소를 그대로 사용
+     */
+    public List<GptScheduleDTO> fillMissingDays(int days, PlaceListsDTO placeLists, List<GptScheduleDTO> existing) {
+        Set<Integer> covered = existing.stream().map(GptScheduleDTO::getDay).collect(Collectors.toSet());
+        List<Integer> missing = new ArrayList<>();
+        for (int day = 1; day <= days; day++) {
+            if (!covered.contains(day)) missing.add(day);
+        }
+        if (missing.isEmpty()) return new ArrayList<>();
+
+        Set<String> used = new HashSet<>();
+        Set<String> hotelNames = new HashSet<>();
+        for (GptScheduleDTO schedule : existing) {
+            if (schedule.getPlace() == null) continue;
+            used.add(schedule.getPlace());
+            if (Kind.CHECK_IN.title.equals(schedule.getTitle()) || Kind.CHECK_OUT.title.equals(schedule.getTitle())) {
+                hotelNames.add(schedule.getPlace());
+            }
+        }
+        List<PlaceDTO> hotels = orEmpty(placeLists.getHotelList());
+        List<PlaceDTO> sameHotel = hotels.stream().filter(h -> hotelNames.contains(h.getName())).limit(1).toList();
+
+        PlaceListsDTO unused = PlaceListsDTO.builder()
+                .attractionList(without(placeLists.getAttractionList(), used))
+                .restaurantList(without(placeLists.getRestaurantList(), used))
+                .cafeList(without(placeLists.getCafeList(), used))
+                .hotelList(sameHotel.isEmpty() ? hotels : sameHotel)
+                .build();
+        return build(days, missing, unused);
+    }
+
+    // targetDays 에 든 날만 days 일 여행의 틀로 채움
+    private List<GptScheduleDTO> build(int days, List<Integer> targetDays, PlaceListsDTO placeLists) {
+        List<List<Slot>> templates = new ArrayList<>(targetDays.size());
+        int sightSlots = 0;
+        for (int day : targetDays) {
+            List<Slot> template = template(day, days);
+            templates.add(template);
+            for (Slot slot : template) {
+                if (slot.kind == Kind.SIGHT) sightSlots++;
+            }
+        }
+
+        PlaceDTO hotel = (days > 1) ? chooseHotel(orEmpty(placeLists.getHotelList()), orEmpty(placeLists.getAttractionList())) : null;
+        List<PlaceDTO> route = routeFrom(hotel, head(orEmpty(placeLists.getAttractionList()), sightSlots));
+        List<PlaceDTO> restaurants = new ArrayList<>(orEmpty(placeLists.getRestaurantList()));
+        List<PlaceDTO> cafes = new ArrayList<>(orEmpty(placeLists.getCafeList()));
+
+        List<GptScheduleDTO> schedules = new ArrayList<>();
+        int nextSight = 0;
+        for (int i = 0; i < targetDays.size(); i++) {
+            int day = targetDays.get(i);
+            List<Slot> template = templates.get(i);
+
+            // 이날 관광 칸에 들어갈 관광지를 먼저 정해 두고 식당·카페 위치 기준으로 사용
+            List<PlaceDTO> sights = new ArrayList<>();
+            for (Slot slot : template) {
+                if (slot.kind == Kind.SIGHT && nextSight < route.size()) sights.add(route.get(nextSight++));
+            }
+
+            PlaceDTO lastSight = null;
+            int sightIndex = 0;
+            for (Slot slot : template) {
+                PlaceDTO place;
+                switch (slot.kind) {
+                    case SIGHT -> {
+                        place = sightIndex < sights.size() ? sights.get(sightIndex++) : null;
+                        if (place != null) lastSight = place;
+                    }
+                    case CHECK_IN, CHECK_OUT -> place = hotel;
+                    case CAFE -> place = takeNearest(cafes, anchor(lastSight, sights, sightIndex, hotel));
+                    default -> place = takeNearest(restaurants,
+                            slot.kind == Kind.BREAKFAST ? anchor(null, List.of(), 0, hotel)
+                                    : anchor(lastSight, sights, sightIndex, hotel));
+                }
+                if (place == null) continue;   // 채울 장소가 없는 칸은 비워 둠
+
+                schedules.add(new GptScheduleDTO(place.getName(), slot.kind.title,
+                        describe(slot.kind, place), day, slot.start, slot.end));
+            }
+        }
+        return schedules;
+    }
+
+    private static List<Slot> template(int day, int days) {
+        if (days == 1) return SINGLE_DAY;
+        if (day == 1) return FIRST_DAY;
+        if (day == days) return LAST_DAY;
+        return (day % 2 == 0) ? MIDDLE_DAY : MIDDLE_DAY_ALT;
+    }
+
+    // 상위 후보 중 관광지 중심에서 가장 가까운 숙소
+    private static PlaceDTO chooseHotel(List<PlaceDTO> hotels, List<PlaceDTO> attractions) {
+        if (hotels.isEmpty()) return null;
+
+        double lat = 0, lng = 0;
+        int n = 0;
+        for (PlaceDTO a : attractions) {
+            if (!hasLocation(a)) continue;
+            n++;
+            lat += (a.getLat() - lat) / n;
+            lng += (a.getLng() - lng) / n;
+        }
+        if (n == 0) return hotels.get(0);
+
+        PlaceDTO best = hotels.get(0);
+        double bestDistance = Double.MAX_VALUE;
+        for (PlaceDTO hotel : head(hotels, HOTEL_CANDIDATES)) {
+            if (!hasLocation(hotel)) continue;
+            double d = GeoUtils.haversineMeters(lat, lng, hotel.getLat(), hotel.getLng());
+            if (d < bestDistance) {
+                bestDistance = d;
+                best = hotel;
+            }
+        }
+        return best;
+    }
+
+    // 시작점(숙소, 없으면 첫 관광지)에서 가장 가까운 관광지를 차례로 이어 붙인 순서
+    private static List<PlaceDTO> routeFrom(PlaceDTO start, List<PlaceDTO> attractions) {
+        List<PlaceDTO> remaining = new ArrayList<>(attractions);
+        List<PlaceDTO> route = new ArrayList<>(remaining.size());
+        PlaceDTO current = (start != null && hasLocation(start)) ? start : null;
+        while (!remaining.isEmpty()) {
+            PlaceDTO next = (current == null) ? remaining.remove(0) : takeNearest(remaining, current);
+            route.add(next);
+            if (hasLocation(next)) current = next;
+        }
+        return route;
+    }
+
+    // 직전 관광지 → 이날 다음 관광지 → 숙소 순으로 위치 기준을 정함
+    private static PlaceDTO anchor(PlaceDTO lastSight, List<PlaceDTO> sights, int nextIndex, PlaceDTO hotel) {
+        if (lastSight != null && hasLocation(lastSight)) return lastSight;
+        for (int i = nextIndex; i < sights.size(); i++) {
+            if (hasLocation(sights.get(i))) return sights.get(i);
+        }
+        return (hotel != null && hasLocation(hotel)) ? hotel : null;
+    }
+
+    // 기준 위치에서 가장 가까운 장소를 목록에서 꺼냄 (기준이 없거나 좌표가 없으면 목록 순서)
+    private static PlaceDTO takeNearest(List<PlaceDTO> candidates, PlaceDTO anchor) {
+        if (candidates.isEmpty()) return null;
+
+        int best = 0;
+        if (anchor != null) {
+            double bestDistance = Double.MAX_VALUE;
+            for (int i = 0; i < candidates.size(); i++) {
+                PlaceDTO p = candidates.get(i);
+                if (!hasLocation(p)) continue;
+                double d = GeoUtils.haversineMeters(anchor.getLat(), anchor.getLng(), p.getLat(), p.getLng());
+                if (d < bestDistance) {
+                    bestDistance = d;
+                    best = i;
+                }
+            }
+        }
+        return candidates.remove(best);
+    }
+
+    private static String describe(Kind kind, PlaceDTO place) {
+        return switch (kind) {
+            case CHECK_IN -> "숙소에 체크인하고 짐을 풉니다.";
+            case CHECK_OUT -> "숙소에서 체크아웃합니다.";
+            default -> place.getRate() > 0
+                    ? String.format("평점 %.1f점(리뷰 %d개)의 %s입니다.", place.getRate(), place.getReviewCount(), kind.noun)
+                    : "일정 주변의 " + kind.noun + "입니다.";
+        };
+    }
+
+    private static boolean hasLocation(PlaceDTO place) {
+        return place.getLat() != 0 || place.getLng() != 0;
+    }
+
+    private static List<PlaceDTO> head(List<PlaceDTO> places, int limit) {
+        return places.size() <= limit ? places : places.subList(0, limit);
+    }
+
+    private static List<PlaceDTO> without(List<PlaceDTO> places, Set<String> names) {
+        return orEmpty(places).stream().filter(p -> !names.contains(p.getName())).collect(Collectors.toList());
+    }
+
+    private static List<PlaceDTO> orEmpty(List<PlaceDTO> places) {
+        return places != null ? places : List.of();
+    }
+
+    private enum Kind {
+        BREAKFAST("아침", "식당"),
+        LUNCH("점심", "식당"),
+        DINNER("저녁", "식당"),
+        SIGHT("관광", "관광지"),
+        CAFE("카페", "카페"),
+        CHECK_IN("체크인", "숙소"),
+        CHECK_OUT("체크아웃", "숙소");
+
+        private final String title;
+        private final String noun;
+
+        Kind(String title, String noun) {
+            this.title = title;
+            this.noun = noun;
+        }
+    }
+
+    private record Slot(Kind kind, double start, double end) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.apiPayload.code.status.ErrorStatus;
+import com.example.travel_project.apiPayload.exception.GeneralException;
+import com.example.travel_project.domain.gpt_place.data.enums.MapsEndpoint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Google Maps(Geocoding, Nearby Search, Find Place) 호출 제한기
+ * - 엔드포인트별 토큰 버킷으로 초당 호출 수를 제한 (도착 순서대로 토큰을 예약하므로 먼저 온 요청이 먼저 나감)
+ * - 공정(FIFO) 세마포어 bulkhead 로 동시에 나가 있는 호출 수를 제한
+ * 한도를 넘으면 바로 실패시키지 않고 maxWaitMs 까지 줄을 서서 기다리며, 그래도 안 되면 PLACE_API_BUSY
+ * 기다리는 중에 호출이 취소(interrupt)되면 바로 CancellationException 으로 끝냄 (거절 메트릭에는 세지 않음)
+ * 거절·취소로 호출이 나가지 않으면 받아둔 토큰은 돌려놓음 (경합 중에도 실제 호출 수가 설정한 초당 호출 수를 채움)
+ * 한 플랜이 동시에 줄 세울 수 있는 호출 수는 PlaceService 의 플랜당 동시 실행 수로 이미 제한되어 있어서
+ * 여러 플랜 요청이 몰려도 호출이 번갈아 나감
+ */
+@Slf4j
+@Component
+public class MapsRateLimiter {
+
+    private final Map<MapsEndpoint, TokenBucket> buckets = new EnumMap<>(MapsEndpoint.class);
+    private final Map<MapsEndpoint, Timer> queueWait = new EnumMap<>(MapsEndpoint.class);
+    private final Map<MapsEndpoint, Counter> rejected = new EnumMap<>(MapsEndpoint.class);
+    private final Semaphore bulkhead;
+    private final int maxInFlight;
+    private final long maxWaitNanos;
+
+    public MapsRateLimiter(MeterRegistry meterRegistry, Environment env) {
+        this.maxInFlight = env.getProperty("google.maps.limiter.max-in-flight", Integer.class, 64);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(
+                env.getProperty("google.maps.limiter.max-wait-ms", Long.class, 10_000L));
+        this.bulkhead = new Semaphore(maxInFlight, true);
+
+        for (MapsEndpoint endpoint : MapsEndpoint.values()) {
+            String prefix = "google.maps.limiter." + endpoint.getKey();
+            double perSecond = env.getProperty(prefix + ".per-second", Double.class, 40.0);
+            int burst = env.getProperty(prefix + ".burst", Integer.class, (int) Math.ceil(perSecond));
+            buckets.put(endpoint, new TokenBucket(perSecond, burst));
+
+            queueWait.put(endpoint, Timer.builder("places.maps.queue-wait")
+                    .tag("endpoint", endpoint.getKey())
+                    .register(meterRegistry));
+            rejected.put(endpoint, meterRegistry.counter("places.maps.rejected", "endpoint", endpoint.getKey()));
+        }
+        meterRegistry.gauge("places.maps.in-flight", bulkhead, b -> maxInFlight - b.availablePermits());
+    }
+
+    /**
+     * 호출 한도 안에서 call 실행
+     */
+    public <T> T call(MapsEndpoint endpoint, Supplier<T> call) {
+        long start = System.nanoTime();
+        long deadline = start + maxWaitNanos;
+
+        TokenBucket bucket = buckets.get(endpoint);
+        if (!bucket.acquire(deadline)) {
+            reject(endpoint);
+        }
+        // 토큰을 받은 뒤 bulkhead 에서 막히면 호출은 나가지 않았으므로 토큰을 돌려놓음
+        try {
+            if (!bulkhead.tryAcquire(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                bucket.release();
+                reject(endpoint);
+            }
+        } catch (InterruptedException e) {
+            bucket.release();
+            Thread.currentThread().interrupt();
+            throw new CancellationException("interrupted while waiting for a Google Maps call slot");
+        }
+
+        queueWait.get(endpoint).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        try {
+            return call.get();
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private void reject(MapsEndpoint endpoint) {
+        rejected.get(endpoint).increment();
+        log.warn("Google Maps 호출 대기 시간 초과: {}", endpoint.getKey());
+        throw new GeneralException(ErrorStatus.PLACE_API_BUSY);
+    }
+
+    /**
+     * 토큰 버킷 (예약 방식)
+     * 토큰이 모자라면 잔량을 음수로 두고 그만큼 기다릴 시간을 돌려줌 → 먼저 예약한 호출이 먼저 나감
+     * 기다리는 중에 중단되면 예약한 토큰을 돌려놓고 CancellationException
+     */
+    private static final class TokenBucket {
+        private final double perNano;
+        private final double capacity;
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(double perSecond, int burst) {
+            this.perNano = perSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = Math.max(1, burst);
+            this.tokens = capacity;
+            this.lastRefill = System.nanoTime();
+        }
+
+        boolean acquire(long deadline) {
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                tokens = Math.min(capacity, tokens + (now - lastRefill) * perNano);
+                lastRefill = now;
+
+                waitNanos = (tokens >= 1) ? 0L : (long) Math.ceil((1 - tokens) / perNano);
+                if (waitNanos > 0 && now + waitNanos > deadline) {
+                    return false;
+                }
+                tokens -= 1;
+            }
+
+            // 예약한 시점까지 대기 (가상 스레드에서는 캐리어 스레드를 점유하지 않음)
+            // interrupt 상태에서는 parkNanos 가 바로 돌아오므로 매번 확인해서 헛돌지 않게 함
+            long wakeAt = System.nanoTime() + waitNanos;
+            while (waitNanos > 0) {
+                if (Thread.currentThread().isInterrupted()) {
+                    release();
+                    throw new CancellationException("interrupted while waiting for a rate limit token");
+                }
+                LockSupport.parkNanos(waitNanos);
+                waitNanos = wakeAt - System.nanoTime();
+            }
+            return true;
+        }
+
+        // 쓰지 않은 예약 토큰 반납
+        synchronized void release() {
+            tokens = Math.min(capacity, tokens + 1);
+        }
+    }
+}
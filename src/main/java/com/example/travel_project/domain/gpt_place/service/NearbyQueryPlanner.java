@@ -0,0 +1,145 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.domain.gpt_place.util.GeoUtils;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 주변 검색 쿼리 계획
+ * 서로 가까운 관광지를 하나의 군집으로 묶어서 군집 중심마다 한 번만 주변 검색을 하고,
+ * 받은 결과는 가장 가까운 관광지에 다시 나눠줌 (관광지마다 따로 검색했을 때와 같은 개수)
+ */
+@Component
+public class NearbyQueryPlanner {
+
+    // Google Nearby Search 가 페이지를 넘겨도 최대로 주는 결과 수
+    private static final int MAX_RESULTS_PER_QUERY = 60;
+
+    private final double clusterRadiusMeters;
+
+    private final Counter naiveQueries;
+    private final Counter plannedQueries;
+
+    public NearbyQueryPlanner(
+            MeterRegistry meterRegistry,
+            @Value("${google.places.nearby.cluster-radius-m:3000}") double clusterRadiusMeters
+    ) {
+        this.clusterRadiusMeters = clusterRadiusMeters;
+        this.naiveQueries = meterRegistry.counter("places.nearby.planner.queries", "plan", "per-attraction");
+        this.plannedQueries = meterRegistry.counter("places.nearby.planner.queries", "plan", "clustered");
+    }
+
+    /**
+     * 관광지를 순서대로 보면서 중심에서 clusterRadiusMeters 안에 있는 첫 군집에 넣고, 없으면 새 군집을 만듦
+     * 같은 입력이면 항상 같은 군집이 나옴
+     */
+    public List<Cluster> plan(List<PlaceDTO> attractions, int typeCount) {
+        List<Cluster> clusters = new ArrayList<>();
+        for (int i = 0; i < attractions.size(); i++) {
+            PlaceDTO a = attractions.get(i);
+            Cluster target = null;
+            for (Cluster c : clusters) {
+                if (GeoUtils.haversineMeters(c.lat, c.lng, a.getLat(), a.getLng()) <= clusterRadiusMeters) {
+                    target = c;
+                    break;
+                }
+            }
+            if (target == null) {
+                target = new Cluster();
+                clusters.add(target);
+            }
+            target.add(i, a);
+        }
+
+        naiveQueries.increment((double) attractions.size() * typeCount);
+        plannedQueries.increment((double) clusters.size() * typeCount);
+        return clusters;
+    }
+
+    /**
+     * 군집 하나의 검색 결과를 구성원 관광지에 나눔
+     * 1) 점수순으로 보면서 가장 가까운 관광지에 배정 (관광지당 perAttraction 개까지)
+     * 2) 아직 덜 찬 관광지는 남은 결과 중 가까운 순으로 채움
+     * 반환 값은 관광지 인덱스 → 배정된 장소 (점수순)
+     */
+    public Map<Integer, List<PlaceDTO>> assign(Cluster cluster, List<PlaceDTO> results,
+                                               List<PlaceDTO> attractions, int perAttraction) {
+        Map<Integer, List<PlaceDTO>> assigned = new LinkedHashMap<>();
+        for (int index : cluster.members) {
+            assigned.put(index, new ArrayList<>());
+        }
+
+        List<PlaceDTO> leftovers = new ArrayList<>();
+        for (PlaceDTO place : results) {
+            int nearest = nearestMember(cluster, place, attractions);
+            List<PlaceDTO> bucket = assigned.get(nearest);
+            if (bucket.size() < perAttraction) {
+                bucket.add(place);
+            } else {
+                leftovers.add(place);
+            }
+        }
+
+        for (int index : cluster.members) {
+            List<PlaceDTO> bucket = assigned.get(index);
+            if (bucket.size() >= perAttraction || leftovers.isEmpty()) continue;
+
+            PlaceDTO a = attractions.get(index);
+            leftovers.sort(Comparator.comparingDouble(
+                    p -> GeoUtils.haversineMeters(a.getLat(), a.getLng(), p.getLat(), p.getLng())));
+            while (bucket.size() < perAttraction && !leftovers.isEmpty()) {
+                bucket.add(leftovers.remove(0));
+            }
+            bucket.sort(Comparator.comparingDouble(PlaceDTO::getScore).reversed());
+        }
+        return assigned;
+    }
+
+    // 군집 중심 검색 한 번으로 구성원 모두의 몫을 받을 수 있도록 limit 을 늘림
+    public int queryLimit(Cluster cluster, int perAttraction) {
+        return Math.min(MAX_RESULTS_PER_QUERY, perAttraction * cluster.members.size());
+    }
+
+    private int nearestMember(Cluster cluster, PlaceDTO place, List<PlaceDTO> attractions) {
+        int nearest = cluster.members.get(0);
+        double best = Double.MAX_VALUE;
+        for (int index : cluster.members) {
+            PlaceDTO a = attractions.get(index);
+            double d = GeoUtils.haversineMeters(a.getLat(), a.getLng(), place.getLat(), place.getLng());
+            if (d < best) {
+                best = d;
+                nearest = index;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * 가까운 관광지 묶음 (중심 좌표는 구성원 좌표의 평균)
+     */
+    @Getter
+    public static class Cluster {
+        @Getter(AccessLevel.NONE)
+        private final List<Integer> members = new ArrayList<>();
+        private double lat;
+        private double lng;
+
+        private void add(int index, PlaceDTO attraction) {
+            members.add(index);
+            int n = members.size();
+            lat += (attraction.getLat() - lat) / n;
+            lng += (attraction.getLng() - lng) / n;
+        }
+
+        public List<Integer> getMembers() {
+            return Collections.unmodifiableList(members);
+        }
+    }
+}
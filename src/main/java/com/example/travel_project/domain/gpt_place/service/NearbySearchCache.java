@@ -0,0 +1,153 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.domain.gpt_place.util.GeoUtils;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 주변 검색(Nearby Search) 결과 캐시
+ * 검색 좌표의 geohash 셀 + 타입으로 묶고, 셀 안에는 (반경, limit) 별 결과 목록을 저장
+ * - 같은 반경에서 limit 이 같거나 큰 항목이 있으면 앞에서부터 잘라서 사용
+ * - 더 큰 반경의 항목이 있으면 요청 반경 안의 장소만 골라 limit 개가 채워질 때 사용 (superset 재사용)
+ * 항목은 ttl 이 지나면 버리고, 저장된 장소 수 합계가 maxPlaces 를 넘으면 가장 오래 안 쓴 셀부터 제거
+ */
+@Component
+public class NearbySearchCache {
+
+    private final int precision;
+    private final long ttlMillis;
+    private final int maxPlaces;
+
+    private final LinkedHashMap<String, List<CachedResult>> buckets = new LinkedHashMap<>(256, 0.75f, true);
+    private int totalPlaces = 0;
+
+    private final Counter hits;
+    private final Counter supersetHits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public NearbySearchCache(
+            MeterRegistry meterRegistry,
+            @Value("${google.places.nearby.cache.geohash-precision:6}") int precision,
+            @Value("${google.places.nearby.cache.ttl-minutes:720}") long ttlMinutes,
+            @Value("${google.places.nearby.cache.max-places:50000}") int maxPlaces
+    ) {
+        this.precision = precision;
+        this.ttlMillis = ttlMinutes * 60_000L;
+        this.maxPlaces = maxPlaces;
+        this.hits = meterRegistry.counter("places.nearby.cache", "result", "hit");
+        this.supersetHits = meterRegistry.counter("places.nearby.cache", "result", "superset-hit");
+        this.misses = meterRegistry.counter("places.nearby.cache", "result", "miss");
+        this.evictions = meterRegistry.counter("places.nearby.cache.evictions");
+        meterRegistry.gauge("places.nearby.cache.places", this, NearbySearchCache::totalPlaces);
+    }
+
+    /**
+     * 캐시된 결과로 요청을 처리할 수 있으면 점수순 상위 limit 개를 반환
+     */
+    public Optional<List<PlaceDTO>> find(double lat, double lng, String type, int radius, int limit) {
+        String key = bucketKey(lat, lng, type);
+        long now = System.currentTimeMillis();
+
+        synchronized (this) {
+            List<CachedResult> bucket = buckets.get(key);
+            if (bucket != null) {
+                removeExpired(key, bucket, now);
+                for (CachedResult cached : bucket) {
+                    if (cached.radius < radius || cached.limit < limit) continue;
+
+                    if (cached.radius == radius) {
+                        hits.increment();
+                        return Optional.of(head(cached.places, limit));
+                    }
+
+                    // 더 큰 반경 결과에서 요청 반경 안의 장소만 사용 (점수순은 그대로 유지)
+                    List<PlaceDTO> within = new ArrayList<>(limit);
+                    for (PlaceDTO p : cached.places) {
+                        if (GeoUtils.haversineMeters(lat, lng, p.getLat(), p.getLng()) <= radius) {
+                            within.add(p);
+                            if (within.size() == limit) break;
+                        }
+                    }
+                    if (within.size() == limit) {
+                        supersetHits.increment();
+                        return Optional.of(List.copyOf(within));
+                    }
+                }
+            }
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 조회 결과 저장 (places 는 점수순으로 정렬된 목록)
+     * 새 항목이 반경과 limit 모두 같거나 큰 기존 항목은 대체
+     */
+    public void put(double lat, double lng, String type, int radius, int limit, List<PlaceDTO> places) {
+        String key = bucketKey(lat, lng, type);
+        CachedResult entry = new CachedResult(radius, limit, List.copyOf(places),
+                System.currentTimeMillis() + ttlMillis);
+
+        synchronized (this) {
+            List<CachedResult> bucket = buckets.computeIfAbsent(key, k -> new ArrayList<>());
+            Iterator<CachedResult> it = bucket.iterator();
+            while (it.hasNext()) {
+                CachedResult existing = it.next();
+                if (existing.radius <= radius && existing.limit <= limit) {
+                    totalPlaces -= existing.places.size();
+                    it.remove();
+                }
+            }
+            bucket.add(entry);
+            totalPlaces += entry.places.size();
+
+            // 메모리 상한: 가장 오래 안 쓴 셀부터 제거 (방금 넣은 셀은 제외)
+            Iterator<Map.Entry<String, List<CachedResult>>> eldest = buckets.entrySet().iterator();
+            while (totalPlaces > maxPlaces && eldest.hasNext()) {
+                Map.Entry<String, List<CachedResult>> e = eldest.next();
+                if (e.getKey().equals(key)) continue;
+                for (CachedResult removed : e.getValue()) {
+                    totalPlaces -= removed.places.size();
+                }
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    public synchronized int totalPlaces() {
+        return totalPlaces;
+    }
+
+    private void removeExpired(String key, List<CachedResult> bucket, long now) {
+        Iterator<CachedResult> it = bucket.iterator();
+        while (it.hasNext()) {
+            CachedResult cached = it.next();
+            if (cached.expiresAt <= now) {
+                totalPlaces -= cached.places.size();
+                it.remove();
+            }
+        }
+        if (bucket.isEmpty()) {
+            buckets.remove(key);
+        }
+    }
+
+    private String bucketKey(double lat, double lng, String type) {
+        return GeoUtils.geohash(lat, lng, precision) + "|" + type;
+    }
+
+    private static List<PlaceDTO> head(List<PlaceDTO> places, int limit) {
+        return places.size() <= limit ? places : places.subList(0, limit);
+    }
+
+    private record CachedResult(int radius, int limit, List<PlaceDTO> places, long expiresAt) {
+    }
+}
@@ -0,0 +1,328 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.domain.gpt_place.data.Place;
+import com.example.travel_project.domain.gpt_place.data.PlaceCoverage;
+import com.example.travel_project.domain.gpt_place.repository.PlaceCoverageRepository;
+import com.example.travel_project.domain.gpt_place.repository.PlaceRepository;
+import com.example.travel_project.domain.gpt_place.util.GeoUtils;
+import com.example.travel_project.domain.gpt_place.util.PlaceRanker;
+import com.example.travel_project.domain.gpt_place.util.PlaceScorer;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Predicate;
+
+/**
+ * 장소 카탈로그
+ * Places 응답으로 받은 장소를 모두 DB(places)에 저장하고, 메모리에는 위경도 격자 인덱스로 보관해서
+ * "좌표 반경 R 안의 타입 T 장소 상위 K개"를 Google 호출 없이 바로 계산
+ * Google 주변 검색을 한 번 한 셀(geohash)·타입은 coverage 로 기록하고, 기록이 유효한 동안만 카탈로그로 응답
+ * - 기록이 없거나 ttl 이 지났거나 반경이 더 작으면 Google 호출
+ * - 카탈로그에서 K개를 못 채우면, 그 셀 검색 결과가 원래 limit 보다 적었던 경우(exhausted)에만 그대로 사용
+ * DB 저장은 별도 스레드 하나에서 순서대로 처리하고, 밀리면 오래된 저장 작업부터 버림 (메모리 인덱스는 즉시 반영)
+ * 메모리 인덱스는 maxPlaces 개까지만 보관: 넘으면 가장 오래 안 쓴 격자 셀부터 90% 까지 비우고,
+ * 비운 셀을 읽을 수 있는 coverage 도 함께 지워서 빠진 장소 때문에 결과가 모자라지 않게 함 (다시 Google 로 채움)
+ */
+@Slf4j
+@Component
+public class PlaceCatalog {
+
+    private static final double METERS_PER_DEGREE = 111_320.0;
+
+    private final PlaceRepository placeRepository;
+    private final PlaceCoverageRepository placeCoverageRepository;
+
+    private final boolean enabled;
+    private final double cellDegrees;
+    private final int coveragePrecision;
+    private final long coverageTtlMillis;
+    private final int maxPlaces;
+    private final int loadPageSize;
+
+    // 격자 셀 → (placeId → 장소)
+    private final ConcurrentHashMap<Long, Cell> cells = new ConcurrentHashMap<>();
+    // placeId → 들어 있는 셀 (좌표가 바뀐 장소를 옮길 때 사용)
+    private final ConcurrentHashMap<String, Long> cellOf = new ConcurrentHashMap<>();
+    // "geohash|type" → 주변 검색 기록
+    private final ConcurrentHashMap<String, Coverage> coverage = new ConcurrentHashMap<>();
+
+    private final ThreadPoolExecutor writer;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter droppedWrites;
+    private final Counter evictedPlaces;
+
+    public PlaceCatalog(
+            PlaceRepository placeRepository,
+            PlaceCoverageRepository placeCoverageRepository,
+            MeterRegistry meterRegistry,
+            @Value("${google.places.catalog.enabled:true}") boolean enabled,
+            @Value("${google.places.catalog.cell-degrees:0.02}") double cellDegrees,
+            @Value("${google.places.catalog.coverage-precision:6}") int coveragePrecision,
+            @Value("${google.places.catalog.coverage-ttl-minutes:10080}") long coverageTtlMinutes,
+            @Value("${google.places.catalog.write-queue-size:1000}") int writeQueueSize,
+            @Value("${google.places.catalog.max-places:100000}") int maxPlaces,
+            @Value("${google.places.catalog.load-page-size:1000}") int loadPageSize
+    ) {
+        this.placeRepository = placeRepository;
+        this.placeCoverageRepository = placeCoverageRepository;
+        this.enabled = enabled;
+        this.cellDegrees = cellDegrees;
+        this.coveragePrecision = coveragePrecision;
+        this.coverageTtlMillis = coverageTtlMinutes * 60_000L;
+        this.maxPlaces = Math.max(1, maxPlaces);
+        this.loadPageSize = Math.max(1, loadPageSize);
+
+        this.hits = meterRegistry.counter("places.catalog", "result", "hit");
+        this.misses = meterRegistry.counter("places.catalog", "result", "miss");
+        this.droppedWrites = meterRegistry.counter("places.catalog.writes.dropped");
+        this.evictedPlaces = meterRegistry.counter("places.catalog.evictions");
+        meterRegistry.gauge("places.catalog.places", cellOf, Map::size);
+
+        this.writer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, writeQueueSize)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "place-catalog-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> {
+                    droppedWrites.increment();
+                    if (!executor.isShutdown()) {
+                        executor.getQueue().poll();
+                        executor.execute(runnable);
+                    }
+                });
+    }
+
+    // 아직 유효한 coverage 와, 그 기간 안에 갱신된 장소를 최신순으로 maxPlaces 개까지 메모리에 올림
+    // (오래된 장소는 유효한 coverage 가 없어서 어차피 카탈로그 응답에 쓰이지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) return;
+        try {
+            Instant since = Instant.now().minusMillis(coverageTtlMillis);
+            PageRequest page = PageRequest.of(0, loadPageSize, Sort.by(Sort.Direction.DESC, "updatedAt"));
+            while (cellOf.size() < maxPlaces) {
+                Slice<Place> slice = placeRepository.findByUpdatedAtAfter(since, page);
+                for (Place place : slice) {
+                    if (cellOf.size() >= maxPlaces) break;
+                    index(place.toDTO());
+                }
+                if (!slice.hasNext()) break;
+                page = page.next();
+            }
+            for (PlaceCoverage c : placeCoverageRepository.findByCoveredAtAfter(since)) {
+                coverage.put(c.getId(), new Coverage(c.getRadius(), c.isExhausted(),
+                        c.getCoveredAt().toEpochMilli() + coverageTtlMillis));
+            }
+            log.info("장소 카탈로그 로드: 장소 {}개, coverage {}개", cellOf.size(), coverage.size());
+        } catch (RuntimeException e) {
+            log.warn("장소 카탈로그를 불러오지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * coverage 가 유효하면 카탈로그에서 점수순 상위 limit 개를 반환, 아니면 empty (Google 호출 필요)
+     */
+    public Optional<List<PlaceDTO>> findNearby(double lat, double lng, String type, int radius, int limit,
+                                               Predicate<PlaceDTO> filter) {
+        if (!enabled) return Optional.empty();
+
+        Coverage covered = coverage.get(coverageKey(lat, lng, type));
+        if (covered == null || covered.expiresAt <= System.currentTimeMillis() || covered.radius < radius) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        List<PlaceDTO> top = topK(lat, lng, type, radius, limit, filter);
+        if (top.size() < limit && !covered.exhausted) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(top);
+    }
+
+    /**
+     * (lat, lng) 반경 radius(m) 안의 type 장소 중 점수 상위 limit 개 (격자 셀 단위로 후보를 좁힌 뒤 거리 확인)
+     */
+    public List<PlaceDTO> topK(double lat, double lng, String type, int radius, int limit, Predicate<PlaceDTO> filter) {
+        double latDelta = radius / METERS_PER_DEGREE;
+        double lngDelta = radius / (METERS_PER_DEGREE * Math.max(0.01, Math.cos(Math.toRadians(lat))));
+        long minRow = cellIndex(lat - latDelta);
+        long maxRow = cellIndex(lat + latDelta);
+        long minCol = cellIndex(lng - lngDelta);
+        long maxCol = cellIndex(lng + lngDelta);
+
+        List<PlaceDTO> candidates = new ArrayList<>();
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                Cell cell = cells.get(cellKey(row, col));
+                if (cell == null) continue;
+                cell.lastUsed = System.currentTimeMillis();
+                for (PlaceDTO p : cell.places.values()) {
+                    if (p.getTypes() != null && p.getTypes().contains(type)
+                            && filter.test(p)
+                            && GeoUtils.haversineMeters(lat, lng, p.getLat(), p.getLng()) <= radius) {
+                        candidates.add(p);
+                    }
+                }
+            }
+        }
+        return PlaceRanker.topK(candidates, limit, PlaceScorer.popularity());
+    }
+
+    /**
+     * Places 응답의 장소를 카탈로그에 반영 (메모리는 즉시, DB 는 비동기 upsert)
+     */
+    public void upsert(List<PlaceDTO> places) {
+        if (!enabled || places == null || places.isEmpty()) return;
+
+        Instant now = Instant.now();
+        List<Place> entities = new ArrayList<>(places.size());
+        for (PlaceDTO p : places) {
+            if (p.getPlaceId() == null) continue;
+            index(p);
+            entities.add(Place.from(p, now));
+        }
+        if (entities.isEmpty()) return;
+        if (cellOf.size() > maxPlaces) {
+            evict();
+        }
+
+        writer.execute(() -> {
+            try {
+                placeRepository.saveAll(entities);
+            } catch (RuntimeException e) {
+                log.warn("장소 카탈로그 저장 실패: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Google 주변 검색을 마친 셀·타입을 기록 (found 가 limit 보다 적으면 반경 안의 장소를 모두 받은 것으로 봄)
+     */
+    public void recordCoverage(double lat, double lng, String type, int radius, int limit, int found) {
+        if (!enabled) return;
+
+        String key = coverageKey(lat, lng, type);
+        Instant now = Instant.now();
+        boolean exhausted = found < limit;
+        coverage.put(key, new Coverage(radius, exhausted, now.toEpochMilli() + coverageTtlMillis));
+
+        PlaceCoverage entity = PlaceCoverage.builder()
+                .id(key)
+                .radius(radius)
+                .exhausted(exhausted)
+                .coveredAt(now)
+                .build();
+        writer.execute(() -> {
+            try {
+                placeCoverageRepository.save(entity);
+            } catch (RuntimeException e) {
+                log.warn("장소 카탈로그 coverage 저장 실패: {}", e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writer.shutdown();
+    }
+
+    private void index(PlaceDTO p) {
+        long key = cellKey(cellIndex(p.getLat()), cellIndex(p.getLng()));
+        Long previous = cellOf.put(p.getPlaceId(), key);
+        if (previous != null && previous != key) {
+            Cell old = cells.get(previous);
+            if (old != null) old.places.remove(p.getPlaceId());
+        }
+        Cell cell = cells.computeIfAbsent(key, k -> new Cell());
+        cell.lastUsed = System.currentTimeMillis();
+        cell.places.put(p.getPlaceId(), p);
+    }
+
+    /**
+     * 가장 오래 안 쓴 셀부터 비워서 maxPlaces 의 90% 까지 줄이고, 비운 셀을 읽을 수 있는 coverage 를 지움
+     */
+    private synchronized void evict() {
+        if (cellOf.size() <= maxPlaces) return;
+
+        List<Map.Entry<Long, Cell>> byAge = new ArrayList<>(cells.entrySet());
+        byAge.sort(Comparator.comparingLong(e -> e.getValue().lastUsed));
+
+        int target = maxPlaces - maxPlaces / 10;
+        Set<Long> evicted = new HashSet<>();
+        int removed = 0;
+        for (Map.Entry<Long, Cell> e : byAge) {
+            if (cellOf.size() <= target) break;
+            if (!cells.remove(e.getKey(), e.getValue())) continue;
+            for (String placeId : e.getValue().places.keySet()) {
+                if (cellOf.remove(placeId, e.getKey())) removed++;
+            }
+            evicted.add(e.getKey());
+        }
+        if (evicted.isEmpty()) return;
+
+        coverage.keySet().removeIf(key -> readsAny(key, evicted));
+        evictedPlaces.increment(removed);
+        log.debug("장소 카탈로그 정리: 셀 {}개, 장소 {}개 제거", evicted.size(), removed);
+    }
+
+    // coverage(geohash 셀 안의 어느 좌표에서든 반경 radius 로 topK)가 읽을 수 있는 격자 셀 중에 evicted 가 있는지
+    private boolean readsAny(String coverageKey, Set<Long> evicted) {
+        Coverage c = coverage.get(coverageKey);
+        if (c == null) return false;
+        double[] bounds = GeoUtils.geohashBounds(coverageKey.substring(0, coverageKey.indexOf('|')));
+        double maxAbsLat = Math.max(Math.abs(bounds[0]), Math.abs(bounds[2]));
+        double latDelta = c.radius / METERS_PER_DEGREE;
+        double lngDelta = c.radius / (METERS_PER_DEGREE * Math.max(0.01, Math.cos(Math.toRadians(maxAbsLat))));
+        long minRow = cellIndex(bounds[0] - latDelta);
+        long maxRow = cellIndex(bounds[2] + latDelta);
+        long minCol = cellIndex(bounds[1] - lngDelta);
+        long maxCol = cellIndex(bounds[3] + lngDelta);
+
+        for (long key : evicted) {
+            long row = key >> 32;
+            long col = (int) key;
+            if (row >= minRow && row <= maxRow && col >= minCol && col <= maxCol) return true;
+        }
+        return false;
+    }
+
+    private long cellIndex(double degrees) {
+        return (long) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long cellKey(long row, long col) {
+        return (row << 32) | (col & 0xffffffffL);
+    }
+
+    private String coverageKey(double lat, double lng, String type) {
+        return GeoUtils.geohash(lat, lng, coveragePrecision) + "|" + type;
+    }
+
+    private record Coverage(int radius, boolean exhausted, long expiresAt) {
+    }
+
+    // 격자 셀 하나 (lastUsed 는 마지막으로 쓰거나 읽은 시각, 정리 순서에 사용)
+    private static final class Cell {
+        private final ConcurrentHashMap<String, PlaceDTO> places = new ConcurrentHashMap<>();
+        private volatile long lastUsed;
+    }
+}
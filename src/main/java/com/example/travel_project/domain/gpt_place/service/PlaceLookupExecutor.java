@@ -0,0 +1,76 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 외부 장소 API 조회를 동시에 실행하는 실행기
+ * 조회는 대부분 네트워크 대기이므로 가상 스레드 위에서 실행하고,
+ * 한 요청(플랜) 안에서의 동시 실행 수는 호출하는 쪽에서 정한 만큼만 허용
+ */
+@Slf4j
+@Component
+public class PlaceLookupExecutor {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * 작업들을 한 번에 제출하되 동시에 최대 maxConcurrency개까지만 실행
+     * 반환되는 Future 리스트의 순서는 tasks 순서와 같음
+     */
+    public <T> List<Future<T>> submitAll(List<Callable<T>> tasks, int maxConcurrency) {
+        Semaphore permits = new Semaphore(Math.max(1, maxConcurrency));
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(executor.submit(() -> {
+                permits.acquire();
+                try {
+                    return task.call();
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+        return futures;
+    }
+
+    /**
+     * deadlineNanos(System.nanoTime 기준)까지 결과를 기다림
+     * 시간 초과 시 작업을 취소하고, 실패하거나 시간 초과된 경우 fallback 반환
+     */
+    public <T> T await(Future<T> future, long deadlineNanos, T fallback) throws InterruptedException {
+        try {
+            return future.get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("장소 조회 시간 초과로 결과를 건너뜁니다.");
+            return fallback;
+        } catch (CancellationException e) {
+            return fallback;
+        } catch (ExecutionException e) {
+            log.warn("장소 조회 실패: {}", String.valueOf(e.getCause()));
+            return fallback;
+        }
+    }
+
+    public void cancelAll(List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    // 비동기 조회(CompletableFuture) 단계 실행용
+    public Executor executor() {
+        return executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
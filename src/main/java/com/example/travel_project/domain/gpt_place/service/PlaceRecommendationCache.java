@@ -0,0 +1,185 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.domain.gpt_place.data.enums.GenerationMode;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceRecommendationDTO;
+import com.example.travel_project.domain.plan.web.dto.PlanRequestDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * GPT 여행지 추천 결과 캐시
+ * 추천 프롬프트는 생성 방식과 지역·날짜·인원·동행·테마로만 정해지므로, 날짜 대신 여행 일수를 쓴 정규화 키로 파싱 결과를 저장
+ * (생성 방식마다 설명 길이 등 응답이 달라서 방식별로 따로 저장)
+ * - 크기를 넘으면 가장 오래 안 쓴 키부터 제거(LRU), ttl 이 지난 결과는 버림
+ * - variants > 1 이면 한 키에 서로 다른 추천을 variants 개까지 모으고(그 전까지는 miss 로 GPT 호출),
+ *   다 모인 뒤에는 그중 하나를 무작위로 골라서 같은 조건의 사용자도 다양한 추천을 받도록 함
+ * - file 을 지정하면 시작할 때 읽고, 바뀐 내용이 있으면 주기적으로·종료할 때 저장
+ */
+@Slf4j
+@Component
+public class PlaceRecommendationCache {
+
+    private final ObjectMapper objectMapper;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final int variants;
+    private final String file;
+
+    private final LinkedHashMap<String, List<CachedRecommendation>> entries;
+    private boolean dirty = false;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public PlaceRecommendationCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${places.recommendation.cache.max-size:1000}") int maxSize,
+            @Value("${places.recommendation.cache.ttl-minutes:1440}") long ttlMinutes,
+            @Value("${places.recommendation.cache.variants:1}") int variants,
+            @Value("${places.recommendation.cache.file:}") String file
+    ) {
+        this.objectMapper = objectMapper;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMinutes * 60_000L;
+        this.variants = Math.max(1, variants);
+        this.file = file;
+        this.hits = meterRegistry.counter("places.recommendation.cache", "result", "hit");
+        this.misses = meterRegistry.counter("places.recommendation.cache", "result", "miss");
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<CachedRecommendation>> eldest) {
+                return size() > PlaceRecommendationCache.this.maxSize;
+            }
+        };
+        meterRegistry.gauge("places.recommendation.cache.size", this, PlaceRecommendationCache::size);
+    }
+
+    public Optional<PlaceRecommendationDTO> get(GenerationMode mode, PlanRequestDTO req, int days) {
+        String key = key(mode, req, days);
+        long now = System.currentTimeMillis();
+
+        synchronized (this) {
+            List<CachedRecommendation> cached = entries.get(key);
+            if (cached != null) {
+                cached.removeIf(c -> c.expiresAt() <= now);
+                if (cached.isEmpty()) {
+                    entries.remove(key);
+                    dirty = true;
+                } else if (cached.size() >= variants) {
+                    hits.increment();
+                    CachedRecommendation picked = cached.get(ThreadLocalRandom.current().nextInt(cached.size()));
+                    return Optional.of(picked.recommendation());
+                }
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(GenerationMode mode, PlanRequestDTO req, int days, PlaceRecommendationDTO recommendation) {
+        if (recommendation.getPlaceNames() == null || recommendation.getPlaceNames().isEmpty()) return;
+
+        String key = key(mode, req, days);
+        CachedRecommendation entry = new CachedRecommendation(recommendation, System.currentTimeMillis() + ttlMillis);
+        synchronized (this) {
+            List<CachedRecommendation> cached = entries.computeIfAbsent(key, k -> new ArrayList<>());
+            cached.removeIf(c -> c.recommendation().getPlaceNames().equals(recommendation.getPlaceNames()));
+            cached.add(entry);
+            while (cached.size() > variants) {
+                cached.remove(0);   // 가장 오래된 추천부터
+            }
+            dirty = true;
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @PostConstruct
+    public void load() {
+        if (file == null || file.isBlank()) return;
+        Path path = Path.of(file);
+        if (!Files.exists(path)) return;
+        try {
+            Map<String, List<CachedRecommendation>> saved = objectMapper.readValue(path.toFile(),
+                    new TypeReference<LinkedHashMap<String, List<CachedRecommendation>>>() {});
+            long now = System.currentTimeMillis();
+            synchronized (this) {
+                saved.forEach((key, list) -> {
+                    List<CachedRecommendation> alive = new ArrayList<>();
+                    for (CachedRecommendation c : list) {
+                        if (c.expiresAt() > now) alive.add(c);
+                    }
+                    if (!alive.isEmpty()) entries.put(key, alive);
+                });
+            }
+            log.info("여행지 추천 캐시 로드: {}개", size());
+        } catch (IOException e) {
+            log.warn("여행지 추천 캐시 파일을 읽지 못했습니다: {} ({})", path, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${places.recommendation.cache.flush-interval-ms:60000}")
+    public void flush() {
+        if (file == null || file.isBlank()) return;
+
+        Map<String, List<CachedRecommendation>> snapshot;
+        synchronized (this) {
+            if (!dirty) return;
+            snapshot = new LinkedHashMap<>();
+            entries.forEach((key, list) -> snapshot.put(key, List.copyOf(list)));
+            dirty = false;
+        }
+
+        // 임시 파일에 쓴 뒤 교체 (쓰는 도중 종료돼도 기존 파일 유지)
+        Path path = Path.of(file);
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tmp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            objectMapper.writeValue(tmp.toFile(), snapshot);
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            synchronized (this) {
+                dirty = true;
+            }
+            log.warn("여행지 추천 캐시 파일을 저장하지 못했습니다: {} ({})", path, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // 방식|지역|일수|인원|동행|테마 (공백 정리 + 소문자)
+    static String key(GenerationMode mode, PlanRequestDTO req, int days) {
+        return String.join("|",
+                mode.getKey(),
+                GeocodeCache.normalize(req.getRegion()),
+                String.valueOf(days),
+                GeocodeCache.normalize(req.getPeople()),
+                GeocodeCache.normalize(req.getCompanions()),
+                GeocodeCache.normalize(req.getTheme()));
+    }
+
+    record CachedRecommendation(PlaceRecommendationDTO recommendation, long expiresAt) {
+    }
+}
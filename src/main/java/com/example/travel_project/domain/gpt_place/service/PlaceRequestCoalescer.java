@@ -0,0 +1,43 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.domain.gpt_place.util.SingleFlight;
+import com.example.travel_project.domain.gpt_place.web.dto.GeocodeDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.NearbySearchRequestDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.NearbySearchResultDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 여러 사용자가 같은 지역을 동시에 계획할 때 같은 Geocoding / Nearby Search 요청을 한 번만 보내도록 묶음
+ * 키는 정규화한 요청 조건 (좌표는 소수 6자리 ≒ 0.1m 로 맞춤)
+ */
+@Component
+public class PlaceRequestCoalescer {
+
+    private final SingleFlight<String, Optional<GeocodeDTO>> geocodeFlights;
+    private final SingleFlight<String, NearbySearchResultDTO> nearbyFlights;
+
+    public PlaceRequestCoalescer(MeterRegistry meterRegistry) {
+        this.geocodeFlights = new SingleFlight<>(meterRegistry, "geocode");
+        this.nearbyFlights = new SingleFlight<>(meterRegistry, "nearby-search");
+    }
+
+    public Optional<GeocodeDTO> geocode(String query, Supplier<Optional<GeocodeDTO>> loader) {
+        return geocodeFlights.execute(GeocodeCache.normalize(query), loader);
+    }
+
+    public NearbySearchResultDTO nearby(NearbySearchRequestDTO request, int limit,
+                                        Supplier<NearbySearchResultDTO> loader) {
+        return nearbyFlights.execute(nearbyKey(request, limit), loader);
+    }
+
+    private static String nearbyKey(NearbySearchRequestDTO request, int limit) {
+        String keyword = request.getKeyword() == null ? "" : GeocodeCache.normalize(request.getKeyword());
+        return String.format(Locale.ROOT, "%.6f,%.6f|%d|%s|%s|%d",
+                request.getLat(), request.getLng(), request.getRadius(), request.getType(), keyword, limit);
+    }
+}
@@ -1,48 +1,80 @@
 package com.example.travel_project.domain.gpt_place.service;
 
-import com.example.travel_project.domain.firestore.service.FirestoreService;
+import com.example.travel_project.domain.gpt_place.data.enums.GenerationMode;
+import com.example.travel_project.domain.gpt_place.data.enums.GenerationStage;
+import com.example.travel_project.domain.gpt_place.data.enums.GptCallKind;
+import com.example.travel_project.domain.gpt_place.data.enums.ScheduleMode;
+import com.example.travel_project.domain.gpt_place.service.provider.PlacesProvider;
+import com.example.travel_project.domain.gpt_place.util.GptResponseSchemas;
+import com.example.travel_project.domain.gpt_place.util.GptScheduleStreamParser;
+import com.example.travel_project.domain.gpt_place.util.PlaceRanker;
+import com.example.travel_project.domain.gpt_place.util.PlaceScorer;
 import com.example.travel_project.domain.gpt_place.web.dto.*;
 import com.example.travel_project.domain.plan.service.PlanService;
 import com.example.travel_project.domain.plan.web.dto.PlanDTO;
-import com.example.travel_project.domain.plan.web.dto.PlanInfoDTO;
 import com.example.travel_project.domain.plan.web.dto.PlanRequestDTO;
-import com.example.travel_project.domain.plan.web.dto.TagDTO;
 import com.example.travel_project.domain.plan.data.Plan;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PlaceService {
     private final PlanService planService;
-    private final FirestoreService firestoreService;
     private final ObjectMapper objectMapper;
-    @Value("${google.api.key}")
-    private String apiKey;
 
-    private final RestTemplate restTemplate;
-
-    // 제외할 프렌차이즈 리스트
-    private static final List<String> EXCLUDE_NAMES = List.of(
-            "스타벅스", "투썸", "투썸플레이스", "이디야", "커피빈", "빽다방", "컴포즈커피",
-            "엔제리너스", "탐앤탐스", "파리바게뜨", "뚜레쥬르", "던킨도너츠", "베스킨라빈스",
-            "맥도날드", "버거킹", "롯데리아", "KFC", "BHC", "BBQ", "푸라닭",
-            "교촌치킨", "굽네치킨", "네네치킨", "페리카나", "도미노피자",
-            "피자헛", "미스터피자", "본죽"
-    );
+    private final PlaceLookupExecutor placeLookupExecutor;
+    private final GeocodeCache geocodeCache;
+    private final NearbySearchCache nearbySearchCache;
+    private final NearbyQueryPlanner nearbyQueryPlanner;
+    private final FranchiseNameFilter franchiseNameFilter;
+    private final PlacesProvider placesProvider;
+    private final PlaceCatalog placeCatalog;
+    private final PlaceRequestCoalescer placeRequestCoalescer;
+    private final PlaceRecommendationCache placeRecommendationCache;
+    private final GenerationStats generationStats;
+    private final LocalItineraryBuilder localItineraryBuilder;
+    private final DailyRouteOptimizer dailyRouteOptimizer;
+
+    // 관광지 주변 식당·카페·숙소 검색 반경(m)
+    private static final int NEARBY_RADIUS_METERS = 10000;
+
+    // 주변 검색 동시 실행 수(플랜당)와 전체 제한 시간
+    @Value("${google.places.nearby.max-concurrency:8}")
+    private int nearbyMaxConcurrency;
+    @Value("${google.places.nearby.deadline-ms:20000}")
+    private long nearbyDeadlineMs;
+    // GPT 추천 장소 이름 검색 동시 실행 수(플랜당)
+    @Value("${google.places.resolve.max-concurrency:6}")
+    private int resolveMaxConcurrency;
+
+    // next_page_token 이 유효해질 때까지의 재시도 간격과 횟수
+    @Value("${google.places.page-token.initial-delay-ms:400}")
+    private long pageTokenInitialDelayMs;
+    @Value("${google.places.page-token.max-attempts:8}")
+    private int pageTokenMaxAttempts;
+
+    // 플랜 생성 방식과 PIPELINED 의 짧은 추천 호출 max_tokens
+    @Value("${places.generation.mode:LEGACY}")
+    private GenerationMode generationMode;
+    @Value("${places.generation.pipelined.recommendation-max-tokens:1500}")
+    private int pipelinedRecommendationMaxTokens;
+    // 일정(타임슬롯) 생성 방식
+    @Value("${places.schedule.mode:GPT}")
+    private ScheduleMode scheduleMode;
 
     // [★ 핵심 로직 메서드 ★]
     public PlanDTO searchAndBuildPlaces(
@@ -50,7 +82,98 @@ public class PlaceService {
             ChatGptService chatGptService,
             String email
     ) throws ExecutionException, InterruptedException {
-        // 1) 일정 파싱
+        return searchAndBuildPlaces(req, chatGptService, email, PlanGenerationListener.NONE);
+    }
+
+    public PlanDTO searchAndBuildPlaces(
+            PlanRequestDTO req,
+            ChatGptService chatGptService,
+            String email,
+            PlanGenerationListener listener
+    ) throws ExecutionException, InterruptedException {
+        return searchAndBuildPlaces(req, chatGptService, email, null, listener);
+    }
+
+    /**
+     * 플랜 생성 (listener 가 있으면 일정 응답을 스트리밍으로 받아서 항목이 완성될 때마다 전달)
+     * 1) 일정 파싱 → 2~5) 관광지 확정 → 6) 주변 장소 검색 → 7~8) 일정 생성 → 8-1) 동선 최적화 → 9) 저장
+     * planUuid 를 주면 그 uuid 로 플랜을 저장 (null 이면 저장할 때 생성)
+     */
+    public PlanDTO searchAndBuildPlaces(
+            PlanRequestDTO req,
+            ChatGptService chatGptService,
+            String email,
+            String planUuid,
+            PlanGenerationListener listener
+    ) throws ExecutionException, InterruptedException {
+        GenerationMode mode = generationMode;
+        boolean streamed = listener != PlanGenerationListener.NONE;
+        GenerationStats.Usage usage = generationStats.start(mode, streamed);
+
+        // 실패하거나 관광지를 못 찾은 경우도 방식별 지연·토큰 사용량에 포함
+        String result = "failed";
+        try {
+            // 1) 일정 파싱
+            int days = tripDays(req);
+
+            // 2~6) 추천 장소 목록
+            PlaceListsDTO placeLists = collectPlaces(req, days, chatGptService, mode, listener, usage);
+            if (placeLists == null) {
+                result = "empty";
+                return new PlanDTO();
+            }
+            listener.onPlaces(placeLists);
+
+            // 7~8) 실제 장소 리스트로 일정 생성 (GPT 일정이 실패하거나 비어 있으면 로컬 규칙으로 대체,
+            //      응답이 잘리거나 중단돼서 빠진 날이 있으면 그날만 로컬 규칙으로 채움)
+            listener.onStage(GenerationStage.SCHEDULING);
+            // 스트리밍으로 미리 보낸 항목과 저장되는 항목의 id 를 맞추기 위해 항목(객체)마다 id 를 한 번만 정함
+            Map<GptScheduleDTO, String> scheduleIds = new IdentityHashMap<>();
+            List<GptScheduleDTO> items = null;
+            boolean local = true;
+            if (scheduleMode == ScheduleMode.GPT) {
+                items = gptSchedules(days, placeLists, chatGptService, mode, listener, usage, scheduleIds);
+                local = items.isEmpty();
+            }
+            if (local) {
+                items = localItineraryBuilder.build(days, placeLists);
+                generationStats.recordScheduleSource(scheduleMode == ScheduleMode.LOCAL ? "local" : "fallback");
+            } else {
+                List<GptScheduleDTO> filled = localItineraryBuilder.fillMissingDays(days, placeLists, items);
+                if (filled.isEmpty()) {
+                    generationStats.recordScheduleSource("gpt");
+                } else {
+                    log.warn("GPT 일정에 빠진 날이 있어 로컬 일정으로 채웁니다: {}",
+                            filled.stream().map(GptScheduleDTO::getDay).distinct().toList());
+                    items.addAll(filled);
+                    generationStats.recordScheduleSource("partial");
+                }
+            }
+
+            // 8-1) 하루 동선 최적화 (식사·체크인 시간은 고정, 관광·카페 순서만 조정)
+            double savedMeters = dailyRouteOptimizer.optimize(items, placeLists);
+            if (savedMeters > 0) {
+                log.debug("동선 최적화로 이동 거리 {}m 단축", Math.round(savedMeters));
+            }
+            // 동선 최적화로 시간이 바뀌었을 수 있으므로 저장할 최종 일정을 한 번 더 전달
+            List<ScheduleDTO> schedules = toScheduleDTOs(items, scheduleIds);
+            listener.onSchedules(schedules);
+
+            ScheduleListWrapperDTO scheduleList = ScheduleListWrapperDTO.builder()
+                    .scheduleList(schedules)
+                    .build();
+
+            // 9) 저장
+            listener.onStage(GenerationStage.SAVING);
+            PlanDTO planDTO = savePlan(req, email, planUuid, placeLists, scheduleList);
+            result = "ok";
+            return planDTO;
+        } finally {
+            generationStats.record(usage, result);
+        }
+    }
+
+    private int tripDays(PlanRequestDTO req) {
         LocalDateTime startDate = req.getStartDate().toLocalDateTime();
         LocalDateTime endDate = req.getEndDate().toLocalDateTime();
 
@@ -60,10 +183,141 @@ public class PlaceService {
         int days = (int)ChronoUnit.DAYS.between(startDate, endDate) + 1;
 
         System.out.println(days + "일");
+        return days;
+    }
 
+    // 관광지(GPT 추천 + 보충)와 주변 식당·카페·숙소 목록, 관광지를 하나도 못 찾으면 null
+    private PlaceListsDTO collectPlaces(PlanRequestDTO req, int days, ChatGptService chatGptService,
+                                        GenerationMode mode, PlanGenerationListener listener,
+                                        GenerationStats.Usage usage)
+            throws InterruptedException {
         int expectedCount = days * 2;
 
+        // PIPELINED: 보충 후보(지역 인기 관광지)를 GPT 추천과 동시에 미리 조회
+        // (취소하면 조회 스레드를 interrupt 해서 아직 안 나간 Maps 호출은 보내지 않음)
+        Future<List<PlaceDTO>> fillCandidates = null;
+        if (mode == GenerationMode.PIPELINED) {
+            Callable<List<PlaceDTO>> fill = () -> searchPlaces(
+                    req.getRegion(), "tourist_attraction", expectedCount * 2, "", "");
+            fillCandidates = placeLookupExecutor.submitAll(List.of(fill), 1).get(0);
+        }
+
+        List<PlaceDTO> attractionList = new ArrayList<>();
+        try {
+            // 2~3) GPT 여행지 추천 (같은 조건의 추천은 캐시 사용), 응답을 기다리는 동안 지역 좌표를 미리 조회
+            listener.onStage(GenerationStage.RECOMMENDING);
+            CompletableFuture<PlaceRecommendationDTO> pending =
+                    recommendPlaces(req, days, expectedCount, chatGptService, mode, usage);
+            try {
+                geocodeCache.get(req.getRegion(), this::fetchGeocode);
+            } catch (RuntimeException e) {
+                pending.cancel(true);
+                throw e;
+            }
+            PlaceRecommendationDTO recommendation = awaitRecommendation(pending);
+            List<String> placeNames = recommendation.getPlaceNames();
+            Map<String, String> placeDescriptions = recommendation.getPlaceDescriptions();
+
+            // 4) 중복 없이 여행지 추가 (GPT 추천 기반)
+            listener.onStage(GenerationStage.RESOLVING);
+            Set<String> usedPlaceIds = new HashSet<>();
+            Set<String> usedNames = new HashSet<>();
+
+            resolveAttractions(req.getRegion(), placeNames, placeDescriptions, expectedCount,
+                    usedPlaceIds, usedNames, attractionList);
+
+            // 5) 부족할 경우, 지역 인기 장소로 보충 (GPT 추천으로 다 채웠으면 미리 시작한 조회는 바로 취소)
+            if (attractionList.size() >= expectedCount && fillCandidates != null) {
+                fillCandidates.cancel(true);
+            }
+            if (attractionList.size() < expectedCount) {
+                List<PlaceDTO> candidates = (fillCandidates != null)
+                        ? placeLookupExecutor.await(fillCandidates,
+                                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(nearbyDeadlineMs), List.of())
+                        : searchPlaces(req.getRegion(), "tourist_attraction",
+                                expectedCount * 2, "", "");   // 여유 있게 받아옴
+                for (PlaceDTO p : candidates) {
+                    String idKey = p.getPlaceId();
+                    if (usedPlaceIds.contains(idKey) || usedNames.contains(p.getName())) continue;
+                    attractionList.add(p);
+                    usedPlaceIds.add(idKey);
+                    usedNames.add(p.getName());
+                    if (attractionList.size() >= expectedCount) break;
+                }
+            }
+        } finally {
+            // 도중에 실패·중단돼도 미리 시작한 조회가 남지 않게 함 (이미 끝났으면 아무 일 없음)
+            if (fillCandidates != null) fillCandidates.cancel(true);
+        }
+
+        if (attractionList.isEmpty()) {
+            return null;
+        }
+
+        // 6) restaurants, cafes, hotels를 저장 (관광지×타입 조회는 동시에 실행)
+        listener.onStage(GenerationStage.SEARCHING_NEARBY);
+        List<String> nearbyTypes = (days != 1)
+                ? List.of("restaurant", "cafe", "lodging")
+                : List.of("restaurant", "cafe");
+        Map<String, Set<PlaceDTO>> nearbyByType = searchNearbyAll(attractionList, nearbyTypes, 3);
+
+        Set<PlaceDTO> restaurantSet = nearbyByType.get("restaurant");
+        Set<PlaceDTO> cafeSet = nearbyByType.get("cafe");
+        Set<PlaceDTO> hotelSet = nearbyByType.getOrDefault("lodging", new LinkedHashSet<>());
+
+        List<PlaceDTO> restaurantList = new ArrayList<>(restaurantSet);
+        List<PlaceDTO> cafeList = new ArrayList<>(cafeSet);
+        List<PlaceDTO> hotelList = new ArrayList<>(hotelSet);
+
+        return PlaceListsDTO.builder()
+                .attractionList(attractionList)
+                .restaurantList(restaurantList)
+                .cafeList(cafeList)
+                .hotelList(hotelList)
+                .build();
+    }
+
+    // 여행지 추천 요청 + 파싱, 생성 방식·지역·일수·인원·동행·테마가 같은 추천이 캐시에 있으면 GPT 호출 생략
+    private CompletableFuture<PlaceRecommendationDTO> recommendPlaces(PlanRequestDTO req, int days, int expectedCount,
+                                                                      ChatGptService chatGptService,
+                                                                      GenerationMode mode,
+                                                                      GenerationStats.Usage usage) {
+        Optional<PlaceRecommendationDTO> cached = placeRecommendationCache.get(mode, req, days);
+        if (cached.isPresent()) return CompletableFuture.completedFuture(cached.get());
+
         // 2) GPT로 여행지 추천 요청
+        String prompt = recommendationPrompt(req, expectedCount, mode);
+        Map<String, Object> format = (mode == GenerationMode.LEGACY) ? null : GptResponseSchemas.placeList();
+        int maxTokens = (mode == GenerationMode.PIPELINED)
+                ? pipelinedRecommendationMaxTokens
+                : ChatGptService.MAX_TOKENS;
+
+        long started = System.nanoTime();
+        CompletableFuture<GptCompletionDTO> answer =
+                chatGptService.complete(GptCallKind.RECOMMENDATION, prompt, format, maxTokens).toFuture();
+        CompletableFuture<PlaceRecommendationDTO> parsed = answer.thenApply(completion -> {
+            usage.add(completion, System.nanoTime() - started);
+            PlaceRecommendationDTO recommendation = (format == null)
+                    ? parseRecommendation(completion.getContent())
+                    : parseStructuredRecommendation(completion.getContent());
+            // 파싱에 실패해서 비어 있는 추천은 캐시하지 않음
+            if (!recommendation.getPlaceNames().isEmpty()) {
+                placeRecommendationCache.put(mode, req, days, recommendation);
+            }
+            return recommendation;
+        });
+        // 실패한 호출도 GPT 호출 시간에 포함
+        answer.whenComplete((completion, ex) -> {
+            if (ex != null) usage.addFailed(System.nanoTime() - started);
+        });
+        // 파싱 단계를 취소하면 GPT 요청도 취소
+        parsed.whenComplete((result, ex) -> {
+            if (parsed.isCancelled()) answer.cancel(true);
+        });
+        return parsed;
+    }
+
+    private String recommendationPrompt(PlanRequestDTO req, int expectedCount, GenerationMode mode) {
         StringBuilder placePrompt = new StringBuilder();
         placePrompt.append("아래 조건에 맞춰 여행지를 중복 없이 추천해주세요:\n")
                 .append("지역: ").append(req.getRegion()).append("\n")
@@ -71,12 +325,21 @@ public class PlaceService {
                 .append("여행 종료일: ").append(req.getEndDate()).append("\n")
                 .append("인원: ").append(req.getPeople()).append("\n")
                 .append("누구와: ").append(req.getCompanions()).append("\n")
-                .append("테마: ").append(req.getTheme()).append("\n")
-                .append("추천 여행지 ").append(expectedCount).append("개를 번호와 함께 목록 형식으로 알려주세요. 각 장소에 대해 간단한 설명도 함께 적어주세요. 같은 장소가 중복되지 않도록 해주세요.\n")
-                .append("여행 코스를 짤 때 실제 제공된 장소만 사용해서 짜주세요.\n");
-        String placeGptResponse = chatGptService.ask(placePrompt.toString());
+                .append("테마: ").append(req.getTheme()).append("\n");
+        switch (mode) {
+            case LEGACY -> placePrompt
+                    .append("추천 여행지 ").append(expectedCount).append("개를 번호와 함께 목록 형식으로 알려주세요. 각 장소에 대해 간단한 설명도 함께 적어주세요. 같은 장소가 중복되지 않도록 해주세요.\n");
+            case STRUCTURED -> placePrompt
+                    .append("추천 여행지 ").append(expectedCount).append("개를 places 배열로 알려주세요. name 은 장소 이름, description 은 간단한 설명입니다. 같은 장소가 중복되지 않도록 해주세요.\n");
+            case PIPELINED -> placePrompt
+                    .append("추천 여행지 ").append(expectedCount).append("개를 places 배열로 알려주세요. name 은 검색 가능한 정확한 장소 이름, description 은 20자 이내의 짧은 설명입니다. 같은 장소가 중복되지 않도록 해주세요.\n");
+        }
+        placePrompt.append("여행 코스를 짤 때 실제 제공된 장소만 사용해서 짜주세요.\n");
+        return placePrompt.toString();
+    }
 
-        // 3) GPT 응답 파싱: 장소 이름·설명 추출
+    // 3) GPT 응답 파싱: 장소 이름·설명 추출
+    private PlaceRecommendationDTO parseRecommendation(String placeGptResponse) {
         List<String> placeNames = new ArrayList<>();
         Map<String, String> placeDescriptions = new LinkedHashMap<>();
         Pattern namePat = Pattern.compile("^\\s*\\d+\\.\\s*([^:]+):?\\s*(.*)$");
@@ -90,96 +353,58 @@ public class PlaceService {
             }
         }
 
-        // 4) 중복 없이 여행지 추가 (GPT 추천 기반)
-        Set<String> usedPlaceIds = new HashSet<>();
-        Set<String> usedNames = new HashSet<>();
-        List<PlaceDTO> attractionList = new ArrayList<>();
+        return PlaceRecommendationDTO.builder()
+                .placeNames(placeNames)
+                .placeDescriptions(placeDescriptions)
+                .build();
+    }
 
-        for (String name : placeNames) {
-            if (usedNames.contains(name)) continue;
-            usedNames.add(name);
-
-            List<PlaceDTO> foundList = searchPlaces(
-                    req.getRegion(), "", 1, name, placeDescriptions.getOrDefault(name, "")
-            );
-            PlaceDTO place = null;
-            if (!foundList.isEmpty()) {
-                PlaceDTO found = foundList.get(0);
-                // placeId 없는 관광지는 추가하지 않음
-                if (found.getPlaceId() == null || usedPlaceIds.contains(found.getPlaceId())) continue;
-                usedPlaceIds.add(found.getPlaceId());
-
-                place = PlaceDTO.builder()
-                        .name(found.getName())
-                        .address(found.getAddress())
-                        .rate(found.getRate())
-                        .photoReference(found.getPhotoReference())
-                        .reviewCount(found.getReviewCount())
-                        .placeId(found.getPlaceId())
-                        .score(found.getScore())
-                        .lat(found.getLat())
-                        .lng(found.getLng())
-                        .types(found.getTypes())
-                        .photoReference(found.getPhotoReference())
-                        .build();
-                attractionList.add(place);
-            }
-            if (attractionList.size() >= expectedCount) break;
-        }
-
-        // 5) 부족할 경우, 지역 인기 장소로 보충
-        if (attractionList.size() < expectedCount) {
-            List<PlaceDTO> candidates = searchPlaces(
-                    req.getRegion(),
-                    "tourist_attraction",
-                    expectedCount * 2, // 여유 있게 받아옴
-                    "", ""
-            );
-            for (PlaceDTO p : candidates) {
-                String idKey = p.getPlaceId();
-                if (usedPlaceIds.contains(idKey) || usedNames.contains(p.getName())) continue;
-                attractionList.add(p);
-                usedPlaceIds.add(idKey);
-                usedNames.add(p.getName());
-                if (attractionList.size() >= expectedCount) break;
+    // 3) 구조화 출력 응답은 DTO 로 바로 역직렬화 (스키마에 맞지 않으면 빈 추천 → 5) 지역 인기 관광지로 채움)
+    private PlaceRecommendationDTO parseStructuredRecommendation(String content) {
+        List<String> placeNames = new ArrayList<>();
+        Map<String, String> placeDescriptions = new LinkedHashMap<>();
+        try {
+            GptPlaceListDTO placeList = objectMapper.readValue(content, GptPlaceListDTO.class);
+            if (placeList.getPlaces() != null) {
+                for (GptPlaceListDTO.Place place : placeList.getPlaces()) {
+                    if (place.getName() == null || place.getName().isBlank()) continue;
+                    String name = place.getName().trim();
+                    placeNames.add(name);
+                    placeDescriptions.put(name, place.getDescription() == null ? "" : place.getDescription().trim());
+                }
             }
+            generationStats.recordRecommendationParse(true);
+        } catch (JsonProcessingException e) {
+            generationStats.recordRecommendationParse(false);
+            log.warn("GPT 여행지 추천 응답이 스키마와 맞지 않습니다: {}", e.getOriginalMessage());
         }
 
-        if (attractionList.isEmpty()) {
-            return new PlanDTO();
-        }
-
-        // 6) restaurants, cafes, hotels를 저장
-        Set<PlaceDTO> restaurantSet = new HashSet<>();
-        Set<PlaceDTO> cafeSet = new HashSet<>();
-        Set<PlaceDTO> hotelSet = new HashSet<>();
-
-        for (PlaceDTO a : attractionList) {
-            List<PlaceDTO> restaurants = searchNearby(a.getLat(), a.getLng(), "restaurant", 3);
-            List<PlaceDTO> cafes = searchNearby(a.getLat(), a.getLng(), "cafe", 3);
-            List<PlaceDTO> hotels = new ArrayList<>();;
-
-            if (days != 1) {
-                hotels = searchNearby(a.getLat(), a.getLng(), "lodging", 3);
-            }
+        return PlaceRecommendationDTO.builder()
+                .placeNames(placeNames)
+                .placeDescriptions(placeDescriptions)
+                .build();
+    }
 
-            restaurantSet.addAll(restaurants);
-            cafeSet.addAll(cafes);
-            hotelSet.addAll(hotels);
+    // 추천 응답 대기 (중단되면 GPT 요청도 취소)
+    // GPT 추천이 실패하면(시간 초과, 서킷 브레이커 OPEN 등) 빈 추천으로 진행 → 5) 지역 인기 관광지로 채움
+    private PlaceRecommendationDTO awaitRecommendation(CompletableFuture<PlaceRecommendationDTO> pending)
+            throws InterruptedException {
+        try {
+            return pending.get();
+        } catch (InterruptedException e) {
+            pending.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            log.warn("GPT 여행지 추천 실패, 지역 인기 관광지로 대체합니다: {}", String.valueOf(e.getCause()));
+            return PlaceRecommendationDTO.builder()
+                    .placeNames(new ArrayList<>())
+                    .placeDescriptions(new LinkedHashMap<>())
+                    .build();
         }
+    }
 
-        List<PlaceDTO> restaurantList = new ArrayList<>(restaurantSet);
-        List<PlaceDTO> cafeList = new ArrayList<>(cafeSet);
-        List<PlaceDTO> hotelList = new ArrayList<>(hotelSet);
-
-        PlaceListsDTO placeLists = PlaceListsDTO.builder()
-                .attractionList(attractionList)
-                .restaurantList(restaurantList)
-                .cafeList(cafeList)
-                .hotelList(hotelList)
-                .build();
-
-        // 7) 실제 장소 리스트를 GPT 프롬프트에 삽입하여 일정 짜기 (JSON 배열로만 출력 강력 요구)
+    // 7) 실제 장소 리스트를 GPT 프롬프트에 삽입하여 일정 짜기 (JSON 배열로만 출력 강력 요구)
+    private String buildSchedulePrompt(int days, PlaceListsDTO placeLists) {
         StringBuilder prompt = new StringBuilder();
         prompt.append("아래 조건에 맞춰 여행 일정을 JSON 배열 형태로만 출력해 주세요.\n");
 
@@ -240,50 +465,106 @@ public class PlaceService {
         for (PlaceDTO placeDTO : placeLists.getHotelList()) {
             prompt.append("- ").append(placeDTO.getName()).append("\n");
         }
+        return prompt.toString();
+    }
+
+    // 8) GPT 일정 응답 파싱 (텍스트·구조화 출력 공통, 한 번 훑으면서 DTO 로 변환)
+    //    앞뒤 설명이나 마크다운은 무시하고, 잘린 응답은 온전한 항목만 살림
+    private List<GptScheduleDTO> parseSchedules(String content) {
+        GptScheduleStreamParser parser = GptScheduleStreamParser.parse(objectMapper, content);
+        reportParse(parser);
+        return new ArrayList<>(parser.getSchedules());
+    }
+
+    private void reportParse(GptScheduleStreamParser parser) {
+        generationStats.recordParse(parser.getSchedules().size(), parser.getRepairedCount(), parser.getDroppedCount());
+        if (parser.getDroppedCount() > 0 || parser.getRepairedCount() > 0) {
+            log.warn("일정 응답 파싱: {}개 사용 (복구 {}개), {}개 버림",
+                    parser.getSchedules().size(), parser.getRepairedCount(), parser.getDroppedCount());
+        }
+    }
+
+    // GPT 로 일정 생성 (LEGACY 외에는 JSON schema 구조화 출력), 호출이 실패하면 빈 목록
+    private List<GptScheduleDTO> gptSchedules(int days, PlaceListsDTO placeLists, ChatGptService chatGptService,
+                                              GenerationMode mode, PlanGenerationListener listener,
+                                              GenerationStats.Usage usage, Map<GptScheduleDTO, String> scheduleIds) {
+        String prompt = buildSchedulePrompt(days, placeLists);
+        Map<String, Object> format = (mode == GenerationMode.LEGACY) ? null : GptResponseSchemas.scheduleList();
+        if (listener != PlanGenerationListener.NONE) {
+            return streamSchedules(prompt, format, chatGptService, listener, usage, scheduleIds);
+        }
+        try {
+            return generateSchedules(prompt, format, chatGptService, usage);
+        } catch (RuntimeException e) {
+            log.warn("GPT 일정 생성 실패, 로컬 일정으로 대체합니다: {}", e.toString());
+            return new ArrayList<>();
+        }
+    }
+
+    // 일정 응답 한 번에 받기
+    private List<GptScheduleDTO> generateSchedules(String prompt, Map<String, Object> format,
+                                                   ChatGptService chatGptService, GenerationStats.Usage usage) {
+        long started = System.nanoTime();
+        GptCompletionDTO completion;
+        try {
+            completion = chatGptService.complete(GptCallKind.SCHEDULE, prompt, format, ChatGptService.MAX_TOKENS)
+                    .block();
+        } catch (RuntimeException e) {
+            usage.addFailed(System.nanoTime() - started);
+            throw e;
+        }
+        if (completion == null) return new ArrayList<>();
+        usage.add(completion, System.nanoTime() - started);
 
-        String gptScheduleJson = chatGptService.ask(prompt.toString());
+        return parseSchedules(completion.getContent());
+    }
 
-        // 8) GPT에서 받은 JSON 배열을 파싱 (DayScheduleDTO 리스트)
-        List<GptScheduleDTO> schedules;
+    // 스트리밍 응답에서 일정 항목이 닫힐 때마다 변환해서 바로 전달
+    // (전달한 항목은 미리보기: id 는 저장되는 일정과 같고, 시간은 동선 최적화 후 onSchedules 로 확정)
+    private List<GptScheduleDTO> streamSchedules(String prompt, Map<String, Object> format,
+                                                 ChatGptService chatGptService, PlanGenerationListener listener,
+                                                 GenerationStats.Usage usage, Map<GptScheduleDTO, String> scheduleIds) {
+        GptScheduleStreamParser parser = new GptScheduleStreamParser(objectMapper,
+                schedule -> listener.onSchedule(toScheduleDTO(schedule, scheduleIds)));
+        long started = System.nanoTime();
         try {
+            GptCompletionDTO completion = chatGptService.streamCompletion(prompt, format, parser::feed);
+            usage.add(completion, System.nanoTime() - started);
+        } catch (RuntimeException e) {
+            usage.addFailed(System.nanoTime() - started);
+            // 이미 전달한 항목은 그대로 두고, 받은 데까지만 사용
+            log.warn("GPT 일정 스트리밍 중단 ({}개 수신): {}", parser.getSchedules().size(), e.toString());
+        }
 
-            // JSON만 추출
-            int startIdx = gptScheduleJson.indexOf("{");
-            int endIdx = gptScheduleJson.lastIndexOf("}");
-            if (startIdx >= 0 && endIdx > startIdx) {
-                gptScheduleJson = gptScheduleJson.substring(startIdx, endIdx + 1);
-            }
-            JsonNode root = objectMapper.readTree(gptScheduleJson);
-            JsonNode schedulesNode = root.get("schedules");
-
-            // 파싱 시도
-            ObjectMapper objectMapper = new ObjectMapper();
-            schedules = objectMapper.readValue(
-                    schedulesNode.toString(),
-                    new TypeReference<List<GptScheduleDTO>>() {}
-            );
-
-        } catch (Exception e) {
-            e.printStackTrace(); // 반드시 에러 원인 로그!
-            schedules = new ArrayList<>();
-        }
-
-        ScheduleListWrapperDTO scheduleList = ScheduleListWrapperDTO.builder()
-                .scheduleList(
-                        schedules.stream()
-                                .map(schedule -> ScheduleDTO.builder()
-                                        .title(schedule.getTitle())
-                                        .content(schedule.getPlace() + " : " + schedule.getContent())
-                                        .i(UUID.randomUUID().toString())
-                                        .x((int)(schedule.getStartTime() * 2))
-                                        .y(schedule.getDay() - 1)
-                                        .w((int)((schedule.getEndTime() - schedule.getStartTime()) * 2))
-                                        .build())
-                                .collect(Collectors.toList())
-                )
+        // 응답이 잘려서 끝났으면 마지막 항목 복구 시도 (복구되면 콜백으로 함께 전달됨)
+        parser.finish();
+        reportParse(parser);
+        return new ArrayList<>(parser.getSchedules());
+    }
+
+    private List<ScheduleDTO> toScheduleDTOs(List<GptScheduleDTO> schedules, Map<GptScheduleDTO, String> ids) {
+        return schedules.stream()
+                .map(schedule -> toScheduleDTO(schedule, ids))
+                .collect(Collectors.toList());
+    }
+
+    // id(i)는 항목마다 처음 변환할 때 정하고 이후에는 같은 값 사용
+    private ScheduleDTO toScheduleDTO(GptScheduleDTO schedule, Map<GptScheduleDTO, String> ids) {
+        return ScheduleDTO.builder()
+                .title(schedule.getTitle())
+                .content(schedule.getPlace() + " : " + schedule.getContent())
+                .i(ids.computeIfAbsent(schedule, s -> UUID.randomUUID().toString()))
+                .x((int)(schedule.getStartTime() * 2))
+                .y(schedule.getDay() - 1)
+                .w((int)((schedule.getEndTime() - schedule.getStartTime()) * 2))
                 .build();
+    }
 
+    // 9) 플랜 등록 + Firestore 에 info / places / schedules 저장
+    private PlanDTO savePlan(PlanRequestDTO req, String email, String planUuid, PlaceListsDTO placeLists,
+                             ScheduleListWrapperDTO scheduleList) throws ExecutionException, InterruptedException {
         Plan plan = Plan.builder()
+                .uuid(planUuid)
                 .title(req.getTitle())
                 .startDate(req.getStartDate().toLocalDateTime())
                 .endDate(req.getEndDate().toLocalDateTime())
@@ -294,259 +575,307 @@ public class PlaceService {
                 .theme(req.getTheme())
                 .build();
 
-        PlanDTO planDTO = planService.createPlan(plan);
-
-        PlanInfoDTO planInfo = PlanInfoDTO.builder()
-                .authorEmail(email)
-                .title(plan.getTitle())
-                .startDate(plan.getStartDate().toString())
-                .endDate(plan.getEndDate().toString())
-                .tags(TagDTO.builder()
-                        .region(req.getRegion())
-                        .people(req.getPeople())
-                        .companions(req.getCompanions())
-                        .theme(req.getTheme())
-                        .build())
-                .build();
-
-        firestoreService.savePlanData(plan.getUuid(), "info", planInfo);
-        firestoreService.savePlanData(plan.getUuid(), "places", placeLists);
-        firestoreService.savePlanData(plan.getUuid(), "schedules", scheduleList);
+        // 플랜 등록과 info / places / schedules 문서 저장을 한 번에 (문서마다 한 번씩, 배치 하나로)
+        PlanDTO planDTO = planService.createPlan(plan, placeLists, scheduleList);
 
         return planDTO;
     }
 
-    // description 인자 추가!
-    public List<PlaceDTO> searchPlaces(String region, String type, int limit, String keyword, String description) {
-        // 1) Geocoding
-        String geocodeUrl = "https://maps.googleapis.com/maps/api/geocode/json"
-                + "?address={region}&key={key}&language=ko";
-        Map<String, String> geoParams = Map.of("region", region, "key", apiKey);
-        @SuppressWarnings("unchecked")
-        Map<String, Object> geoResp = restTemplate.getForObject(geocodeUrl, Map.class, geoParams);
-        List<?> geoResults = (List<?>) geoResp.get("results");
-        if (geoResults.isEmpty()) return Collections.emptyList();
-
-        @SuppressWarnings("unchecked")
-        Map<String, Object> loc = (Map<String, Object>) ((Map<String, Object>)
-                ((Map<String, Object>) geoResults.get(0)).get("geometry")).get("location");
-        double lat = ((Number) loc.get("lat")).doubleValue();
-        double lng = ((Number) loc.get("lng")).doubleValue();
+    /**
+     * GPT 추천 장소 이름들을 동시에 검색해서 관광지 목록을 채움
+     * 검색은 한꺼번에 시작하되(동시 실행 수 resolveMaxConcurrency), 결과는 GPT 추천 순서대로 확인하면서
+     * 이름·placeId 중복 규칙을 그대로 적용하고, expectedCount 개가 모이면 남은 검색은 취소
+     */
+    private void resolveAttractions(String region, List<String> placeNames, Map<String, String> placeDescriptions,
+                                    int expectedCount, Set<String> usedPlaceIds, Set<String> usedNames,
+                                    List<PlaceDTO> attractionList) throws InterruptedException {
+        List<String> candidateNames = placeNames.stream().distinct().toList();
+        if (candidateNames.isEmpty()) return;
+
+        // 모든 검색이 같은 지역 좌표를 쓰므로 먼저 한 번 조회해서 캐시에 올려둠
+        geocodeCache.get(region, this::fetchGeocode);
+
+        List<Callable<List<PlaceDTO>>> tasks = new ArrayList<>();
+        for (String name : candidateNames) {
+            tasks.add(() -> searchPlaces(region, "", 1, name, placeDescriptions.getOrDefault(name, "")));
+        }
 
-        // 2) Nearby Search (theme → keyword)
-        List<Map<String, Object>> allResults = new ArrayList<>();
-        String nextPageToken = null;
-        do {
-            String placesUrl = "https://maps.googleapis.com/maps/api/place/nearbysearch/json"
-                    + "?location={lat},{lng}"
-                    + "&radius=10000&type={type}"
-                    + (keyword != null && !keyword.isBlank() ? "&keyword={keyword}" : "")
-                    + "&key={key}&language=ko"
-                    + (nextPageToken != null ? "&pagetoken={token}" : "");
-
-            Map<String, Object> params = new HashMap<>();
-            params.put("lat", lat);
-            params.put("lng", lng);
-            params.put("type", type);
-            params.put("key", apiKey);
-            if (keyword != null && !keyword.isBlank()) {
-                params.put("keyword", keyword);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(nearbyDeadlineMs);
+        List<Future<List<PlaceDTO>>> lookups = placeLookupExecutor.submitAll(tasks, resolveMaxConcurrency);
+        try {
+            for (int i = 0; i < candidateNames.size(); i++) {
+                String name = candidateNames.get(i);
+                if (usedNames.contains(name)) continue;
+                usedNames.add(name);
+
+                List<PlaceDTO> foundList = placeLookupExecutor.await(lookups.get(i), deadline, List.of());
+                if (!foundList.isEmpty()) {
+                    PlaceDTO found = foundList.get(0);
+                    // placeId 없는 관광지는 추가하지 않음
+                    if (found.getPlaceId() == null || usedPlaceIds.contains(found.getPlaceId())) continue;
+                    usedPlaceIds.add(found.getPlaceId());
+
+                    attractionList.add(PlaceDTO.builder()
+                            .name(found.getName())
+                            .address(found.getAddress())
+                            .rate(found.getRate())
+                            .photoReference(found.getPhotoReference())
+                            .reviewCount(found.getReviewCount())
+                            .placeId(found.getPlaceId())
+                            .score(found.getScore())
+                            .lat(found.getLat())
+                            .lng(found.getLng())
+                            .types(found.getTypes())
+                            .build());
+                }
+                if (attractionList.size() >= expectedCount) break;
+            }
+        } finally {
+            // 이미 충분히 모였거나 중단된 경우 남은 검색 취소
+            placeLookupExecutor.cancelAll(lookups);
+        }
+    }
+
+    /**
+     * 관광지 주변의 타입별 장소를 동시에 검색
+     * 가까운 관광지끼리는 군집으로 묶어 군집 중심마다 한 번만 검색하고, 결과는 가장 가까운 관광지에 다시 나눔
+     * 동시 실행 수는 플랜당 nearbyMaxConcurrency개로 제한하고, 전체 조회는 nearbyDeadlineMs 안에 끝냄
+     * 결과는 (관광지, 타입) 순서대로 합쳐서 매번 같은 순서가 되도록 함
+     */
+    private Map<String, Set<PlaceDTO>> searchNearbyAll(List<PlaceDTO> attractions, List<String> types, int limit)
+            throws InterruptedException {
+        List<NearbyQueryPlanner.Cluster> clusters = nearbyQueryPlanner.plan(attractions, types.size());
+
+        List<Callable<List<PlaceDTO>>> tasks = new ArrayList<>();
+        for (NearbyQueryPlanner.Cluster c : clusters) {
+            int queryLimit = nearbyQueryPlanner.queryLimit(c, limit);
+            for (String type : types) {
+                tasks.add(() -> searchNearby(c.getLat(), c.getLng(), type, queryLimit));
             }
-            if (nextPageToken != null) {
-                params.put("token", nextPageToken);
-                try {
-                    Thread.sleep(2000);
-                } catch (InterruptedException ignored) {
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(nearbyDeadlineMs);
+        List<Future<List<PlaceDTO>>> futures = placeLookupExecutor.submitAll(tasks, nearbyMaxConcurrency);
+
+        // 관광지 인덱스 → 타입 → 배정된 장소
+        Map<Integer, Map<String, List<PlaceDTO>>> byAttraction = new HashMap<>();
+        try {
+            int i = 0;
+            for (NearbyQueryPlanner.Cluster c : clusters) {
+                for (String type : types) {
+                    List<PlaceDTO> results = placeLookupExecutor.await(futures.get(i++), deadline, List.of());
+                    nearbyQueryPlanner.assign(c, results, attractions, limit).forEach((index, places) ->
+                            byAttraction.computeIfAbsent(index, k -> new HashMap<>()).put(type, places));
                 }
             }
+        } finally {
+            placeLookupExecutor.cancelAll(futures);
+        }
+
+        Map<String, Set<PlaceDTO>> merged = new LinkedHashMap<>();
+        for (String type : types) {
+            merged.put(type, new LinkedHashSet<>());
+        }
+        for (int index = 0; index < attractions.size(); index++) {
+            Map<String, List<PlaceDTO>> found = byAttraction.getOrDefault(index, Map.of());
+            for (String type : types) {
+                merged.get(type).addAll(found.getOrDefault(type, List.of()));
+            }
+        }
+        return merged;
+    }
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> resp = restTemplate.getForObject(placesUrl, Map.class, params);
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> results = (List<Map<String, Object>>) resp.get("results");
-            allResults.addAll(results);
-            Object tokenObj = resp.get("next_page_token");
-            nextPageToken = (tokenObj != null) ? tokenObj.toString() : null;
-        } while (nextPageToken != null && allResults.size() < limit);
+    // description 인자 추가!
+    public List<PlaceDTO> searchPlaces(String region, String type, int limit, String keyword, String description) {
+        // 1) Geocoding (같은 지역은 캐시된 좌표 사용)
+        Optional<GeocodeDTO> regionGeo = geocodeCache.get(region, this::fetchGeocode);
+        if (regionGeo.isEmpty()) return Collections.emptyList();
+
+        double lat = regionGeo.get().getLat();
+        double lng = regionGeo.get().getLng();
+
+        // 2) Nearby Search (theme → keyword)
+        NearbySearchRequestDTO request = NearbySearchRequestDTO.builder()
+                .lat(lat)
+                .lng(lng)
+                .radius(NEARBY_RADIUS_METERS)
+                .type(type)
+                .keyword(keyword)
+                .build();
 
         // 3) 매핑·필터링·정렬
-        return allResults.stream()
-                .map(m -> {
-                    String name = (String) m.get("name");
-                    String address = (String) m.getOrDefault("vicinity", "");
-                    double rating = m.get("rating") instanceof Number
-                            ? ((Number) m.get("rating")).doubleValue() : 0.0;
-                    int reviews = m.get("user_ratings_total") instanceof Number
-                            ? ((Number) m.get("user_ratings_total")).intValue() : 0;
-                    String id = (String) m.get("place_id");
-                    Map<?, ?> geo = (Map<?, ?>) ((Map<?, ?>) m.get("geometry")).get("location");
-                    double latVal = ((Number) geo.get("lat")).doubleValue();
-                    double lngVal = ((Number) geo.get("lng")).doubleValue();
-                    double score = rating * Math.log(reviews + 1);
-                    List<String> types = new ArrayList<>();
-                    Object rawTypes = m.get("types");
-                    if (rawTypes instanceof List<?>) {
-                        for (Object placeType : (List<?>) rawTypes) {
-                            if (placeType instanceof String) {
-                                types.add((String) placeType);
-                            }
-                        }
-                    }
-                    String photoReference = "";
-                    Object rawPhotos = m.get("photos");
-                    if (rawPhotos instanceof List<?> && !((List<?>) rawPhotos).isEmpty()) {
-                        Object firstPhoto = ((List<?>) rawPhotos).get(0);
-                        if (firstPhoto instanceof Map<?, ?>) {
-                            photoReference = (String) ((Map<?, ?>) firstPhoto).get("photo_reference");
-                        }
-                    }
-                    return PlaceDTO.builder()
-                            .name(name)
-                            .address(address)
-                            .rate(rating)
-                            .reviewCount(reviews)
-                            .placeId(id)
-                            .score(score)
-                            .lat(latVal)
-                            .lng(lngVal)
-                            .types(types)
-                            .photoReference(photoReference)
-                            .build();
-
-                })
-                .filter(p -> p.getRate() > 0)
-                .filter(p -> EXCLUDE_NAMES.stream().noneMatch(ex -> p.getName().contains(ex)))
-                .sorted(Comparator.comparingDouble(PlaceDTO::getScore).reversed())
-                .limit(limit)
-                .collect(Collectors.toList());
+        return searchNearbyPages(request, limit).getPlaces();
     }
 
     public List<PlaceDTO> searchNearby(double lat, double lng, String type, int limit) {
-        List<Map<String, Object>> allResults = new ArrayList<>();
-        String nextPageToken = null;
-
-        do {
-            String url = "https://maps.googleapis.com/maps/api/place/nearbysearch/json"
-                    + "?location={lat},{lng}&radius=10000&type={type}"
-                    + "&key={key}&language=ko"
-                    + (nextPageToken != null ? "&pagetoken={token}" : "");
-
-            Map<String, Object> params = new HashMap<>();
-            params.put("lat", lat);
-            params.put("lng", lng);
-            params.put("type", type);
-            params.put("key", apiKey);
-            if (nextPageToken != null) {
-                params.put("token", nextPageToken);
-                try {
-                    Thread.sleep(2000);
-                } catch (InterruptedException ignored) {
-                }
-            }
+        // 같은 geohash 셀·타입의 최근 결과가 있으면 Google 호출 생략
+        Optional<List<PlaceDTO>> cached = nearbySearchCache.find(lat, lng, type, NEARBY_RADIUS_METERS, limit);
+        if (cached.isPresent()) return cached.get();
+
+        // 이 셀·타입을 최근에 검색한 적이 있으면 장소 카탈로그에서 바로 계산
+        Optional<List<PlaceDTO>> local = placeCatalog.findNearby(
+                lat, lng, type, NEARBY_RADIUS_METERS, limit, this::isRecommendable);
+        if (local.isPresent()) {
+            nearbySearchCache.put(lat, lng, type, NEARBY_RADIUS_METERS, limit, local.get());
+            return local.get();
+        }
+
+        NearbySearchResultDTO result = fetchNearby(lat, lng, type, limit);
+        List<PlaceDTO> places = result.getPlaces();
+        // 중단·시간 초과·오류 상태(OVER_QUERY_LIMIT 등)로 끝난 조회는 저장하지 않고 다음에 다시 Google 로 확인
+        if (!result.isComplete() || Thread.currentThread().isInterrupted()) {
+            return places;
+        }
+        if (!places.isEmpty()) {
+            placeCatalog.recordCoverage(lat, lng, type, NEARBY_RADIUS_METERS, limit, places.size());
+        }
+        nearbySearchCache.put(lat, lng, type, NEARBY_RADIUS_METERS, limit, places);
+        return places;
+    }
+
+    private NearbySearchResultDTO fetchNearby(double lat, double lng, String type, int limit) {
+        NearbySearchRequestDTO request = NearbySearchRequestDTO.builder()
+                .lat(lat)
+                .lng(lng)
+                .radius(NEARBY_RADIUS_METERS)
+                .type(type)
+                .build();
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> resp = restTemplate.getForObject(url, Map.class, params);
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> results = (List<Map<String, Object>>) resp.get("results");
-            allResults.addAll(results);
-
-            Object tokenObj = resp.get("next_page_token");
-            nextPageToken = (tokenObj != null) ? tokenObj.toString() : null;
-        } while (nextPageToken != null && allResults.size() < limit);
-
-        return allResults.stream()
-                .map(m -> {
-                    String name = (String) m.get("name");
-                    String address = (String) m.getOrDefault("vicinity", "");
-                    double rating = m.get("rating") instanceof Number
-                            ? ((Number) m.get("rating")).doubleValue() : 0.0;
-                    int reviews = m.get("user_ratings_total") instanceof Number
-                            ? ((Number) m.get("user_ratings_total")).intValue() : 0;
-                    String id = (String) m.get("place_id");
-                    double score = rating * Math.log(reviews + 1);
-                    Map<?, ?> locMap = (Map<?, ?>) ((Map<?, ?>) m.get("geometry")).get("location");
-                    double latVal = ((Number) locMap.get("lat")).doubleValue();
-                    double lngVal = ((Number) locMap.get("lng")).doubleValue();
-                    Object rawTypes = m.get("types");
-                    List<String> types = new ArrayList<>();
-                    if (rawTypes instanceof List<?>) {
-                        for (Object placeType : (List<?>) rawTypes) {
-                            if (placeType instanceof String) {
-                                types.add((String) placeType);
-                            }
-                        }
+        return searchNearbyPages(request, limit);
+    }
+
+    // 같은 조건의 검색이 이미 진행 중이면 그 결과를 함께 받음
+    private NearbySearchResultDTO searchNearbyPages(NearbySearchRequestDTO request, int limit) {
+        return placeRequestCoalescer.nearby(request, limit, () -> awaitAsync(nearbySearchAsync(request, limit),
+                new NearbySearchResultDTO(List.of(), false)));
+    }
+
+    /**
+     * Nearby Search 를 페이지 단위로 비동기 조회
+     * next_page_token 은 발급 직후 잠시 유효하지 않으므로, 스레드를 붙잡고 sleep 하지 않고
+     * 짧은 간격으로 예약 재시도(delayedExecutor)하며 토큰이 유효해질 때까지 확인
+     * 필터를 통과한 장소가 limit 개 모이면 다음 페이지는 요청하지 않음
+     * 중간에 오류 상태를 받거나 토큰 재시도가 끝나면 모은 데까지만 돌려주고 complete=false 로 표시
+     */
+    private CompletableFuture<NearbySearchResultDTO> nearbySearchAsync(NearbySearchRequestDTO request, int limit) {
+        CompletableFuture<NearbySearchResultDTO> pages = new CompletableFuture<>();
+        fetchPage(request, null, 0, new ArrayList<>(), limit, pages);
+        return pages;
+    }
+
+    private void fetchPage(NearbySearchRequestDTO request, String pageToken, int attempt,
+                           List<PlaceDTO> collected, int limit, CompletableFuture<NearbySearchResultDTO> pages) {
+        Executor executor = (pageToken == null)
+                ? placeLookupExecutor.executor()
+                : CompletableFuture.delayedExecutor(pageTokenDelayMs(attempt), TimeUnit.MILLISECONDS,
+                        placeLookupExecutor.executor());
+
+        CompletableFuture
+                .supplyAsync(() -> pages.isDone() ? null : placesProvider.nearbySearch(request, pageToken, this::isRecommendable), executor)
+                .whenComplete((page, ex) -> {
+                    if (pages.isDone()) return; // 취소됨
+                    if (ex != null) {
+                        pages.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null
+                                ? ex.getCause() : ex);
+                        return;
                     }
-                    String photoReference = "";
-                    Object rawPhotos = m.get("photos");
-                    if (rawPhotos instanceof List<?> && !((List<?>) rawPhotos).isEmpty()) {
-                        Object firstPhoto = ((List<?>) rawPhotos).get(0);
-                        if (firstPhoto instanceof Map<?, ?>) {
-                            photoReference = (String) ((Map<?, ?>) firstPhoto).get("photo_reference");
-                        }
+                    try {
+                        onPage(page, request, pageToken, attempt, collected, limit, pages);
+                    } catch (RuntimeException e) {
+                        pages.completeExceptionally(e);
                     }
-                    // description 없음!
-                    return PlaceDTO.builder()
-                            .name(name)
-                            .address(address)
-                            .rate(rating)
-                            .reviewCount(reviews)
-                            .placeId(id)
-                            .score(score)
-                            .lat(latVal)
-                            .lng(lngVal)
-                            .types(types)
-                            .photoReference(photoReference)
-                            .build();
-                })
-                .filter(p -> p.getRate() > 0)
-                .filter(p -> EXCLUDE_NAMES.stream().noneMatch(ex -> p.getName().contains(ex)))
-                .sorted(Comparator.comparingDouble(PlaceDTO::getScore).reversed())
-                .limit(limit)
-                .collect(Collectors.toList());
+                });
+    }
+
+    private void onPage(PlaceSearchPageDTO page, NearbySearchRequestDTO request, String pageToken, int attempt,
+                        List<PlaceDTO> collected, int limit, CompletableFuture<NearbySearchResultDTO> pages) {
+        if (page == null) {
+            pages.complete(result(collected, limit, false));
+            return;
+        }
+
+        // 토큰이 아직 유효하지 않으면 INVALID_REQUEST → 조금 더 기다렸다가 같은 토큰으로 재시도
+        if (pageToken != null && "INVALID_REQUEST".equals(page.getStatus())) {
+            if (attempt + 1 < pageTokenMaxAttempts) {
+                fetchPage(request, pageToken, attempt + 1, collected, limit, pages);
+            } else {
+                pages.complete(result(collected, limit, false));
+            }
+            return;
+        }
+
+        // 한도 초과·권한 오류 등은 "결과 없음"과 구분 (받은 데까지만 사용하고 캐시하지 않음)
+        if (!PlacesResponseDecoder.isSuccess(page.getStatus())) {
+            log.warn("Nearby Search 오류 상태: {} ({})", page.getStatus(), request.getType());
+            pages.complete(result(collected, limit, false));
+            return;
+        }
+
+        // 평점·프렌차이즈 필터는 디코딩하면서 이미 적용됨
+        collected.addAll(page.getPlaces());
+        placeCatalog.upsert(page.getPlaces());
+
+        if (page.getNextPageToken() != null && collected.size() < limit) {
+            fetchPage(request, page.getNextPageToken(), 0, collected, limit, pages);
+        } else {
+            pages.complete(result(collected, limit, true));
+        }
+    }
+
+    private NearbySearchResultDTO result(List<PlaceDTO> collected, int limit, boolean complete) {
+        return new NearbySearchResultDTO(rank(collected, limit), complete);
+    }
+
+    // 페이지 토큰 재시도 간격: initial, ×1.5 ... 최대 2초
+    private long pageTokenDelayMs(int attempt) {
+        return (long) Math.min(2000, pageTokenInitialDelayMs * Math.pow(1.5, attempt));
+    }
+
+    // 동기 호출부용: 비동기 조회 결과를 기다림 (가상 스레드에서는 대기 중 캐리어 스레드를 반환)
+    // 중단되면 조회를 취소하고 fallback 반환
+    private <T> T awaitAsync(CompletableFuture<T> pages, T fallback) {
+        try {
+            return pages.get();
+        } catch (InterruptedException e) {
+            pages.cancel(true);
+            Thread.currentThread().interrupt();
+            return fallback;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // 점수 높은 순으로 limit 개 (같은 점수는 placeId 순)
+    private List<PlaceDTO> rank(List<PlaceDTO> places, int limit) {
+        return PlaceRanker.topK(places, limit, PlaceScorer.popularity());
+    }
+
+    // 평점 없는 곳, 프렌차이즈 제외
+    private boolean isRecommendable(PlaceDTO p) {
+        return p.getRate() > 0
+                && p.getName() != null
+                && !franchiseNameFilter.matches(p.getName());
     }
 
     public Map<String, Double> geocode(String query) {
-        String url = "https://maps.googleapis.com/maps/api/geocode/json"
-                + "?address={q}&key={key}&language=ko";
-        @SuppressWarnings("unchecked")
-        Map<String, Object> resp = restTemplate.getForObject(
-                url, Map.class, Map.of("q", query, "key", apiKey)
-        );
-        List<?> results = (List<?>) resp.get("results");
-        if (results.isEmpty()) return Map.of("lat", 0.0, "lng", 0.0);
-
-        @SuppressWarnings("unchecked")
-        Map<String, Object> loc = (Map<String, Object>)
-                ((Map<?, ?>) ((Map<?, ?>) results.get(0)).get("geometry")).get("location");
-        return Map.of(
-                "lat", ((Number) loc.get("lat")).doubleValue(),
-                "lng", ((Number) loc.get("lng")).doubleValue()
-        );
+        return geocodeCache.get(query, this::fetchGeocode)
+                .map(geo -> Map.of("lat", geo.getLat(), "lng", geo.getLng()))
+                .orElse(Map.of("lat", 0.0, "lng", 0.0));
     }
 
     public String extractAddress(String query) {
-        String url = "https://maps.googleapis.com/maps/api/geocode/json"
-                + "?address={q}&key={key}&language=ko";
-        @SuppressWarnings("unchecked")
-        Map<String, Object> resp = restTemplate.getForObject(
-                url, Map.class, Map.of("q", query, "key", apiKey)
-        );
-        List<?> results = (List<?>) resp.get("results");
-        if (results.isEmpty()) return "";
-        return (String) ((Map<?, ?>) results.get(0)).get("formatted_address");
+        return geocodeCache.get(query, this::fetchGeocode)
+                .map(GeocodeDTO::getFormattedAddress)
+                .orElse("");
     }
 
-    public Map<String, Object> findPlaceByName(String query) {
-        String url = "https://maps.googleapis.com/maps/api/place/findplacefromtext/json"
-                + "?input={q}&inputtype=textquery&fields=place_id,name,geometry,formatted_address,rating,user_ratings_total"
-                + "&key={key}&language=ko";
-        Map<String, String> params = Map.of("q", query, "key", apiKey);
-
-        @SuppressWarnings("unchecked")
-        Map<String, Object> resp = restTemplate.getForObject(url, Map.class, params);
+    // Geocoding API 실제 호출 (첫 번째 결과의 좌표와 주소를 함께 보관)
+    private Optional<GeocodeDTO> fetchGeocode(String query) {
+        return placeRequestCoalescer.geocode(query, () -> placesProvider.geocode(query));
+    }
 
-        List<?> candidates = (List<?>) resp.get("candidates");
-        if (candidates == null || candidates.isEmpty()) return null; // 못찾으면 null
-        return (Map<String, Object>) candidates.get(0); // 첫 후보 리턴
+    public Map<String, Object> findPlaceByName(String query) {
+        return placesProvider.findPlace(query);
     }
 }
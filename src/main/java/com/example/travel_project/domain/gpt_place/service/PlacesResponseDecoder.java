@@ -0,0 +1,260 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.apiPayload.code.status.ErrorStatus;
+import com.example.travel_project.apiPayload.exception.GeneralException;
+import com.example.travel_project.domain.gpt_place.web.dto.GeocodeDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceSearchPageDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Google Places / Geocoding 응답을 JsonParser 로 스트리밍 디코딩
+ * Map 트리를 만들지 않고 사용하는 필드만 읽어서 바로 PlaceDTO 로 만들고, 나머지 필드는 건너뜀
+ */
+@Slf4j
+@Component
+public class PlacesResponseDecoder {
+
+    private final JsonFactory jsonFactory;
+
+    public PlacesResponseDecoder(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Nearby Search / Text Search 응답 한 페이지 디코딩
+     * filter 를 통과한 장소만 결과에 담음
+     */
+    public PlaceSearchPageDTO decodeSearchPage(InputStream body, Predicate<PlaceDTO> filter) throws IOException {
+        String status = null;
+        String nextPageToken = null;
+        List<PlaceDTO> places = new ArrayList<>();
+
+        try (JsonParser p = jsonFactory.createParser(body)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                return new PlaceSearchPageDTO(null, null, places);
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken value = p.nextToken();
+                switch (field) {
+                    case "status" -> status = textOrNull(p, value);
+                    case "next_page_token" -> nextPageToken = textOrNull(p, value);
+                    case "results" -> {
+                        if (value != JsonToken.START_ARRAY) {
+                            p.skipChildren();
+                            break;
+                        }
+                        JsonToken item;
+                        while ((item = p.nextToken()) != null && item != JsonToken.END_ARRAY) {
+                            if (item != JsonToken.START_OBJECT) {
+                                p.skipChildren();
+                                continue;
+                            }
+                            PlaceDTO place = readPlace(p);
+                            if (filter.test(place)) {
+                                places.add(place);
+                            }
+                        }
+                    }
+                    default -> p.skipChildren();
+                }
+            }
+        }
+        return new PlaceSearchPageDTO(status, nextPageToken, places);
+    }
+
+    /**
+     * Geocoding 응답에서 첫 번째 결과의 좌표와 주소만 읽음
+     * 결과가 없으면(ZERO_RESULTS) empty, 그 밖의 오류 상태(OVER_QUERY_LIMIT, REQUEST_DENIED, UNKNOWN_ERROR 등)는
+     * "없는 지역"과 구분되도록 PLACE_API_ERROR 로 실패시킴 (캐시에 남지 않음)
+     */
+    public Optional<GeocodeDTO> decodeGeocode(InputStream body) throws IOException {
+        String status = null;
+        try (JsonParser p = jsonFactory.createParser(body)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) throw apiError("geocode", null);
+
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken value = p.nextToken();
+                if ("status".equals(field)) {
+                    status = textOrNull(p, value);
+                    continue;
+                }
+                if (!"results".equals(field) || value != JsonToken.START_ARRAY) {
+                    p.skipChildren();
+                    continue;
+                }
+                JsonToken first = p.nextToken();
+                if (first == JsonToken.END_ARRAY) continue; // 결과 없음 → status 로 판단
+                if (first != JsonToken.START_OBJECT) return Optional.empty();
+
+                double[] latLng = {0.0, 0.0};
+                String formattedAddress = null;
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String resultField = p.currentName();
+                    JsonToken resultValue = p.nextToken();
+                    switch (resultField) {
+                        case "formatted_address" -> formattedAddress = textOrNull(p, resultValue);
+                        case "geometry" -> readGeometry(p, resultValue, latLng);
+                        default -> p.skipChildren();
+                    }
+                }
+                return Optional.of(GeocodeDTO.builder()
+                        .lat(latLng[0])
+                        .lng(latLng[1])
+                        .formattedAddress(formattedAddress)
+                        .build());
+            }
+        }
+        if (isSuccess(status)) return Optional.empty();
+        throw apiError("geocode", status);
+    }
+
+    /**
+     * Places / Geocoding 응답 상태가 정상(OK 또는 결과 없음)인지
+     * 그 밖의 상태는 일시적인 오류일 수 있으므로 결과를 캐시하지 않음
+     */
+    public static boolean isSuccess(String status) {
+        return "OK".equals(status) || "ZERO_RESULTS".equals(status);
+    }
+
+    private static GeneralException apiError(String endpoint, String status) {
+        log.warn("Google Maps 응답 오류: {} status={}", endpoint, status);
+        return new GeneralException(ErrorStatus.PLACE_API_ERROR);
+    }
+
+    // results[] 원소 하나 (현재 토큰은 START_OBJECT)
+    private PlaceDTO readPlace(JsonParser p) throws IOException {
+        String name = null;
+        String address = "";
+        double rating = 0.0;
+        int reviews = 0;
+        String placeId = null;
+        double[] latLng = {0.0, 0.0};
+        List<String> types = new ArrayList<>();
+        String photoReference = "";
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            switch (field) {
+                case "name" -> name = textOrNull(p, value);
+                case "vicinity" -> address = textOrNull(p, value);
+                case "rating" -> rating = value.isNumeric() ? p.getDoubleValue() : 0.0;
+                case "user_ratings_total" -> reviews = value.isNumeric() ? p.getIntValue() : 0;
+                case "place_id" -> placeId = textOrNull(p, value);
+                case "geometry" -> readGeometry(p, value, latLng);
+                case "types" -> {
+                    if (value != JsonToken.START_ARRAY) {
+                        p.skipChildren();
+                        break;
+                    }
+                    JsonToken t;
+                    while ((t = p.nextToken()) != null && t != JsonToken.END_ARRAY) {
+                        if (t == JsonToken.VALUE_STRING) {
+                            types.add(p.getText());
+                        } else {
+                            p.skipChildren();
+                        }
+                    }
+                }
+                case "photos" -> photoReference = readFirstPhotoReference(p, value);
+                default -> p.skipChildren();
+            }
+        }
+
+        return PlaceDTO.builder()
+                .name(name)
+                .address(address)
+                .rate(rating)
+                .reviewCount(reviews)
+                .placeId(placeId)
+                .score(rating * Math.log(reviews + 1))
+                .lat(latLng[0])
+                .lng(latLng[1])
+                .types(types)
+                .photoReference(photoReference)
+                .build();
+    }
+
+    // geometry.location.lat / lng 를 latLng 에 채움
+    private void readGeometry(JsonParser p, JsonToken value, double[] latLng) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return;
+        }
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken locationValue = p.nextToken();
+            if (!"location".equals(field) || locationValue != JsonToken.START_OBJECT) {
+                p.skipChildren();
+                continue;
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String axis = p.currentName();
+                JsonToken number = p.nextToken();
+                if ("lat".equals(axis) && number.isNumeric()) {
+                    latLng[0] = p.getDoubleValue();
+                } else if ("lng".equals(axis) && number.isNumeric()) {
+                    latLng[1] = p.getDoubleValue();
+                } else {
+                    p.skipChildren();
+                }
+            }
+        }
+    }
+
+    // photos[0].photo_reference (사진이 없으면 "")
+    private String readFirstPhotoReference(JsonParser p, JsonToken value) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            p.skipChildren();
+            return "";
+        }
+        String photoReference = "";
+        JsonToken first = p.nextToken();
+        if (first == JsonToken.START_OBJECT) {
+            photoReference = null;
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken photoValue = p.nextToken();
+                if ("photo_reference".equals(field)) {
+                    photoReference = textOrNull(p, photoValue);
+                } else {
+                    p.skipChildren();
+                }
+            }
+        } else if (first != JsonToken.END_ARRAY) {
+            p.skipChildren();
+        }
+        if (first != JsonToken.END_ARRAY) {
+            // 나머지 사진은 읽지 않고 건너뜀
+            JsonToken rest;
+            while ((rest = p.nextToken()) != null && rest != JsonToken.END_ARRAY) {
+                p.skipChildren();
+            }
+        }
+        return photoReference;
+    }
+
+    private static String textOrNull(JsonParser p, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) return null;
+        if (value.isStructStart()) {
+            p.skipChildren();
+            return null;
+        }
+        return p.getText();
+    }
+}
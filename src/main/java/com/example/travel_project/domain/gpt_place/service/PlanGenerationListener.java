@@ -0,0 +1,34 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.domain.gpt_place.data.enums.GenerationStage;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceListsDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.ScheduleDTO;
+
+import java.util.List;
+
+/**
+ * 플랜 생성 중간 결과를 받는 리스너 (SSE 등으로 클라이언트에 바로 전달할 때 사용)
+ * 생성 스레드에서 호출되므로 오래 걸리는 작업은 하지 않음
+ */
+public interface PlanGenerationListener {
+
+    // 중간 결과를 받지 않음 (일정은 전체 응답을 받은 뒤 한 번에 파싱)
+    PlanGenerationListener NONE = new PlanGenerationListener() {
+    };
+
+    // 다음 생성 단계 시작
+    default void onStage(GenerationStage stage) {
+    }
+
+    // 관광지·식당·카페·숙소 목록 확정
+    default void onPlaces(PlaceListsDTO placeLists) {
+    }
+
+    // 스트리밍 중 일정 항목 하나가 완성됨 (미리보기: id 는 저장될 일정과 같지만 시간은 동선 최적화로 바뀔 수 있음)
+    default void onSchedule(ScheduleDTO schedule) {
+    }
+
+    // 저장될 최종 일정 목록 (동선 최적화 후, 저장 직전에 한 번)
+    default void onSchedules(List<ScheduleDTO> schedules) {
+    }
+}
@@ -0,0 +1,289 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.apiPayload.code.status.ErrorStatus;
+import com.example.travel_project.apiPayload.exception.GeneralException;
+import com.example.travel_project.domain.gpt_place.data.enums.GenerationStage;
+import com.example.travel_project.domain.gpt_place.data.enums.PlanJobStatus;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceListsDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.PlanJobDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.ScheduleDTO;
+import com.example.travel_project.domain.plan.web.dto.PlanDTO;
+import com.example.travel_project.domain.plan.web.dto.PlanRequestDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+/**
+ * 플랜 생성 작업 (POST /api/places 를 바로 응답하고 생성은 백그라운드에서 진행)
+ * - 작업마다 작업 id 와 플랜 uuid 를 먼저 정하고, 고정 크기 작업 풀(places.jobs.max-concurrent)에서 실행
+ *   풀이 바쁘면 places.jobs.queue-capacity 개까지 대기, 그 이상은 PLAN_JOB_BUSY
+ * - 상태/단계는 메모리에 두고 조회·SSE 로 제공, 끝난 작업은 places.jobs.retention-minutes 뒤 제거
+ * - SSE 이벤트: status(PlanJobDTO, 단계가 바뀔 때마다) / places / schedule(스트리밍 미리보기)
+ *   / schedules(저장될 최종 일정, 같은 id 의 미리보기를 대체) / 마지막 status 후 종료
+ * 작업은 요청한 사용자만 조회할 수 있음 (다른 사용자에게는 없는 작업으로 응답)
+ */
+@Slf4j
+@Service
+public class PlanJobService {
+
+    private final PlaceService placeService;
+    private final ChatGptService chatGptService;
+    private final MeterRegistry meterRegistry;
+
+    private final ThreadPoolExecutor workers;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    private final long eventsTimeoutMs;
+    private final Duration retention;
+
+    public PlanJobService(
+            PlaceService placeService,
+            ChatGptService chatGptService,
+            MeterRegistry meterRegistry,
+            @Value("${places.jobs.max-concurrent:4}") int maxConcurrent,
+            @Value("${places.jobs.queue-capacity:100}") int queueCapacity,
+            @Value("${places.jobs.events-timeout-ms:300000}") long eventsTimeoutMs,
+            @Value("${places.jobs.retention-minutes:60}") long retentionMinutes
+    ) {
+        this.placeService = placeService;
+        this.chatGptService = chatGptService;
+        this.meterRegistry = meterRegistry;
+        this.eventsTimeoutMs = eventsTimeoutMs;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+
+        // 생성 작업은 대부분 네트워크 대기이므로 가상 스레드로 실행하되, 동시에 실행되는 생성 수는 풀 크기로 제한
+        this.workers = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                Thread.ofVirtual().name("plan-job-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        meterRegistry.gauge("places.jobs.running", workers, ThreadPoolExecutor::getActiveCount);
+        meterRegistry.gauge("places.jobs.queued", workers, w -> w.getQueue().size());
+    }
+
+    /**
+     * 작업 등록 후 바로 반환 (상태 QUEUED)
+     */
+    public PlanJobDTO submit(PlanRequestDTO req, String email) {
+        return submit(req, email, () -> {
+        });
+    }
+
+    /**
+     * 작업 등록 후 바로 반환, 작업이 FAILED 로 끝나면 onFailed 실행 (예: Idempotency-Key 해제)
+     */
+    public PlanJobDTO submit(PlanRequestDTO req, String email, Runnable onFailed) {
+        Job job = new Job(UUID.randomUUID().toString(), UUID.randomUUID().toString(), email, onFailed);
+        jobs.put(job.id, job);
+        try {
+            workers.execute(() -> run(job, req));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            meterRegistry.counter("places.jobs", "result", "rejected").increment();
+            throw new GeneralException(ErrorStatus.PLAN_JOB_BUSY);
+        }
+        return job.snapshot();
+    }
+
+    public PlanJobDTO get(String jobId, String email) {
+        return find(jobId, email).snapshot();
+    }
+
+    // 이전에 등록한 작업의 현재 상태 (이미 정리된 작업이면 등록 당시 상태)
+    public PlanJobDTO current(PlanJobDTO submitted, String email) {
+        Job job = jobs.get(submitted.getJobId());
+        return (job != null && job.email.equals(email)) ? job.snapshot() : submitted;
+    }
+
+    /**
+     * 작업 진행 상황 구독: 현재 상태를 먼저 보내고, 이미 끝난 작업이면 바로 종료
+     */
+    public SseEmitter subscribe(String jobId, String email) {
+        Job job = find(jobId, email);
+        SseEmitter emitter = new SseEmitter(eventsTimeoutMs);
+        job.subscribe(emitter);
+        return emitter;
+    }
+
+    // 끝난 지 retention 이 지난 작업 제거
+    @Scheduled(fixedDelayString = "${places.jobs.cleanup-interval-ms:60000}")
+    public void evictFinished() {
+        Instant threshold = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.updatedAt.isBefore(threshold));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void run(Job job, PlanRequestDTO req) {
+        long started = System.nanoTime();
+        job.update(PlanJobStatus.RUNNING, GenerationStage.QUEUED);
+        try {
+            PlanDTO plan = placeService.searchAndBuildPlaces(req, chatGptService, job.email, job.planUuid, job);
+            if (plan.getUuid() == null) {
+                job.fail("추천할 관광지를 찾지 못했습니다.");
+            } else {
+                job.succeed(plan);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("플랜 생성이 중단되었습니다.");
+        } catch (GeneralException e) {
+            log.warn("플랜 생성 실패 (job {}): {}", job.id, e.getCode().getReason().getMessage());
+            job.fail(e.getCode().getReason().getMessage());
+        } catch (Exception e) {
+            log.warn("플랜 생성 실패 (job " + job.id + ")", e);
+            job.fail("플랜 생성 중 오류가 발생했습니다.");
+        }
+        meterRegistry.timer("places.jobs.duration", "result", job.status.name().toLowerCase())
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    private Job find(String jobId, String email) {
+        Job job = jobs.get(jobId);
+        if (job == null || !job.email.equals(email)) {
+            throw new GeneralException(ErrorStatus.PLAN_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    /**
+     * 작업 한 건 (생성 스레드가 상태를 바꾸고, 요청 스레드가 읽음)
+     */
+    private final class Job implements PlanGenerationListener {
+        private final String id;
+        private final String planUuid;
+        private final String email;
+        private final Runnable onFailed;
+        private final Instant createdAt = Instant.now();
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+        private volatile PlanJobStatus status = PlanJobStatus.QUEUED;
+        private volatile GenerationStage stage = GenerationStage.QUEUED;
+        private volatile String error;
+        private volatile PlanDTO plan;
+        private volatile Instant updatedAt = createdAt;
+
+        private Job(String id, String planUuid, String email, Runnable onFailed) {
+            this.id = id;
+            this.planUuid = planUuid;
+            this.email = email;
+            this.onFailed = onFailed;
+        }
+
+        @Override
+        public void onStage(GenerationStage stage) {
+            update(PlanJobStatus.RUNNING, stage);
+        }
+
+        @Override
+        public void onPlaces(PlaceListsDTO placeLists) {
+            publish("places", placeLists);
+        }
+
+        @Override
+        public void onSchedule(ScheduleDTO schedule) {
+            publish("schedule", schedule);
+        }
+
+        @Override
+        public void onSchedules(List<ScheduleDTO> schedules) {
+            publish("schedules", schedules);
+        }
+
+        boolean isFinished() {
+            return status == PlanJobStatus.SUCCEEDED || status == PlanJobStatus.FAILED;
+        }
+
+        void update(PlanJobStatus status, GenerationStage stage) {
+            this.status = status;
+            this.stage = stage;
+            this.updatedAt = Instant.now();
+            publish("status", snapshot());
+        }
+
+        void succeed(PlanDTO plan) {
+            this.plan = plan;
+            finish(PlanJobStatus.SUCCEEDED, GenerationStage.DONE);
+        }
+
+        void fail(String error) {
+            this.error = error;
+            finish(PlanJobStatus.FAILED, stage);
+            try {
+                onFailed.run();
+            } catch (RuntimeException e) {
+                log.warn("작업 실패 후처리 실패 (job {})", id, e);
+            }
+        }
+
+        private void finish(PlanJobStatus status, GenerationStage stage) {
+            synchronized (this) {
+                update(status, stage);
+                for (SseEmitter emitter : emitters) {
+                    emitter.complete();
+                }
+                emitters.clear();
+            }
+            meterRegistry.counter("places.jobs", "result", status.name().toLowerCase()).increment();
+        }
+
+        // 구독과 종료가 겹쳐도 끝난 작업의 구독자가 남지 않도록 종료와 같은 락 사용
+        void subscribe(SseEmitter emitter) {
+            synchronized (this) {
+                send(emitter, "status", snapshot());
+                if (isFinished()) {
+                    emitter.complete();
+                    return;
+                }
+                emitters.add(emitter);
+            }
+            emitter.onCompletion(() -> emitters.remove(emitter));
+            emitter.onTimeout(() -> emitters.remove(emitter));
+        }
+
+        void publish(String event, Object data) {
+            for (SseEmitter emitter : emitters) {
+                if (!send(emitter, event, data)) emitters.remove(emitter);
+            }
+        }
+
+        PlanJobDTO snapshot() {
+            return PlanJobDTO.builder()
+                    .jobId(id)
+                    .planUuid(planUuid)
+                    .status(status)
+                    .stage(stage)
+                    .error(error)
+                    .plan(plan)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+
+        private boolean send(SseEmitter emitter, String event, Object data) {
+            try {
+                emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE 전송 실패 ({}): {}", event, e.getMessage());
+                return false;
+            }
+        }
+    }
+}
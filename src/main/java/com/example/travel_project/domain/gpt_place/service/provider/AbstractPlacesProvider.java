@@ -0,0 +1,105 @@
+package com.example.travel_project.domain.gpt_place.service.provider;
+
+import com.example.travel_project.domain.gpt_place.data.enums.MapsEndpoint;
+import com.example.travel_project.domain.gpt_place.service.PlacesResponseDecoder;
+import com.example.travel_project.domain.gpt_place.web.dto.GeocodeDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.NearbySearchRequestDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceSearchPageDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * 요청 URL·파라미터 구성과 응답 디코딩을 공통으로 처리
+ * 하위 클래스는 응답 본문을 어디서 가져올지(exchange)만 구현
+ */
+public abstract class AbstractPlacesProvider implements PlacesProvider {
+
+    protected static final String GEOCODE_URL = "https://maps.googleapis.com/maps/api/geocode/json"
+            + "?address={q}&key={key}&language=ko";
+    protected static final String FIND_PLACE_URL = "https://maps.googleapis.com/maps/api/place/findplacefromtext/json"
+            + "?input={q}&inputtype=textquery&fields=place_id,name,geometry,formatted_address,rating,user_ratings_total"
+            + "&key={key}&language=ko";
+
+    protected final PlacesResponseDecoder decoder;
+    protected final ObjectMapper objectMapper;
+
+    protected AbstractPlacesProvider(PlacesResponseDecoder decoder, ObjectMapper objectMapper) {
+        this.decoder = decoder;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * url 템플릿과 파라미터({key} 제외)로 응답 본문을 가져와 reader 로 읽음
+     */
+    protected abstract <T> T exchange(MapsEndpoint endpoint, String url, Map<String, Object> params,
+                                      ResponseReader<T> reader);
+
+    @Override
+    public Optional<GeocodeDTO> geocode(String query) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("q", query);
+        return exchange(MapsEndpoint.GEOCODE, GEOCODE_URL, params, decoder::decodeGeocode);
+    }
+
+    @Override
+    public PlaceSearchPageDTO nearbySearch(NearbySearchRequestDTO request, String pageToken,
+                                           Predicate<PlaceDTO> filter) {
+        boolean hasKeyword = request.getKeyword() != null && !request.getKeyword().isBlank();
+        String url = "https://maps.googleapis.com/maps/api/place/nearbysearch/json"
+                + "?location={lat},{lng}"
+                + "&radius={radius}&type={type}"
+                + (hasKeyword ? "&keyword={keyword}" : "")
+                + "&key={key}&language=ko"
+                + (pageToken != null ? "&pagetoken={token}" : "");
+
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("lat", request.getLat());
+        params.put("lng", request.getLng());
+        params.put("radius", request.getRadius());
+        params.put("type", request.getType());
+        if (hasKeyword) {
+            params.put("keyword", request.getKeyword());
+        }
+        if (pageToken != null) {
+            params.put("token", pageToken);
+        }
+        return exchange(MapsEndpoint.NEARBY_SEARCH, url, params, body -> decoder.decodeSearchPage(body, filter));
+    }
+
+    @Override
+    public PlaceSearchPageDTO textSearch(String query, String pageToken, Predicate<PlaceDTO> filter) {
+        String url = "https://maps.googleapis.com/maps/api/place/textsearch/json"
+                + "?query={q}&key={key}&language=ko"
+                + (pageToken != null ? "&pagetoken={token}" : "");
+
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("q", query);
+        if (pageToken != null) {
+            params.put("token", pageToken);
+        }
+        return exchange(MapsEndpoint.TEXT_SEARCH, url, params, body -> decoder.decodeSearchPage(body, filter));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> findPlace(String query) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("q", query);
+        Map<String, Object> resp = exchange(MapsEndpoint.FIND_PLACE, FIND_PLACE_URL, params,
+                body -> objectMapper.readValue(body, Map.class));
+
+        List<?> candidates = (resp != null) ? (List<?>) resp.get("candidates") : null;
+        if (candidates == null || candidates.isEmpty()) return null; // 못찾으면 null
+        return (Map<String, Object>) candidates.get(0); // 첫 후보 리턴
+    }
+
+    @FunctionalInterface
+    protected interface ResponseReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+}
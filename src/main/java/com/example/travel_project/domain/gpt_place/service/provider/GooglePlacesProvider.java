@@ -0,0 +1,39 @@
+package com.example.travel_project.domain.gpt_place.service.provider;
+
+import com.example.travel_project.domain.gpt_place.data.enums.MapsEndpoint;
+import com.example.travel_project.domain.gpt_place.service.MapsRateLimiter;
+import com.example.travel_project.domain.gpt_place.service.PlacesResponseDecoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Google Maps API 를 직접 호출하는 제공자 (호출 한도는 MapsRateLimiter 로 제어)
+ */
+public class GooglePlacesProvider extends AbstractPlacesProvider {
+
+    private final RestTemplate restTemplate;
+    private final MapsRateLimiter rateLimiter;
+    private final String apiKey;
+
+    public GooglePlacesProvider(RestTemplate restTemplate, MapsRateLimiter rateLimiter,
+                                PlacesResponseDecoder decoder, ObjectMapper objectMapper, String apiKey) {
+        super(decoder, objectMapper);
+        this.restTemplate = restTemplate;
+        this.rateLimiter = rateLimiter;
+        this.apiKey = apiKey;
+    }
+
+    @Override
+    protected <T> T exchange(MapsEndpoint endpoint, String url, Map<String, Object> params,
+                             ResponseReader<T> reader) {
+        Map<String, Object> uriVariables = new HashMap<>(params);
+        uriVariables.put("key", apiKey);
+
+        return rateLimiter.call(endpoint, () -> restTemplate.execute(url, HttpMethod.GET, null,
+                response -> reader.read(response.getBody()), uriVariables));
+    }
+}
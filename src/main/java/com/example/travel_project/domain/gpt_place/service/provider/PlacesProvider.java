@@ -0,0 +1,30 @@
+package com.example.travel_project.domain.gpt_place.service.provider;
+
+import com.example.travel_project.domain.gpt_place.web.dto.GeocodeDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.NearbySearchRequestDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceSearchPageDTO;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * 장소 데이터 제공자
+ * 실제 서비스는 Google Maps API 를 쓰고(google), 부하 테스트·벤치마크는 저장해 둔 응답을 재생(replay)
+ * google.places.provider = google | record | replay
+ */
+public interface PlacesProvider {
+
+    // 검색어의 첫 번째 Geocoding 결과 (없으면 empty)
+    Optional<GeocodeDTO> geocode(String query);
+
+    // Nearby Search 한 페이지 (pageToken 이 null 이면 첫 페이지), filter 를 통과한 장소만 담음
+    PlaceSearchPageDTO nearbySearch(NearbySearchRequestDTO request, String pageToken, Predicate<PlaceDTO> filter);
+
+    // Text Search 한 페이지
+    PlaceSearchPageDTO textSearch(String query, String pageToken, Predicate<PlaceDTO> filter);
+
+    // Find Place 첫 번째 후보 (없으면 null)
+    Map<String, Object> findPlace(String query);
+}
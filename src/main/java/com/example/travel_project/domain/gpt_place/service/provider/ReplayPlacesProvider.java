@@ -0,0 +1,98 @@
+package com.example.travel_project.domain.gpt_place.service.provider;
+
+import com.example.travel_project.domain.gpt_place.data.enums.MapsEndpoint;
+import com.example.travel_project.domain.gpt_place.service.PlacesResponseDecoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 저장해 둔 응답 파일로 동작하는 제공자 (네트워크·API 키 없이 부하 테스트용)
+ * - replay: {dir}/{endpoint}/{요청 해시}.json 을 읽어서 응답으로 사용, latencyMs(+ 0~jitterMs)만큼 지연을 넣음
+ * - record: recorder(실제 Google 제공자)로 호출하고 받은 응답을 같은 경로에 저장
+ * 파일 이름은 엔드포인트 + 정렬한 요청 파라미터({key} 제외)의 SHA-256 이라 같은 요청이면 같은 파일
+ */
+@Slf4j
+public class ReplayPlacesProvider extends AbstractPlacesProvider {
+
+    // 저장된 응답이 없을 때 쓰는 빈 응답 (오류 상태라서 "결과 없음"으로 캐시되지 않음)
+    private static final byte[] EMPTY_RESPONSE =
+            "{\"status\":\"UNKNOWN_ERROR\",\"results\":[],\"candidates\":[]}".getBytes(StandardCharsets.UTF_8);
+
+    private final Path fixtureDir;
+    private final long latencyMs;
+    private final long jitterMs;
+    private final GooglePlacesProvider recorder;
+
+    public ReplayPlacesProvider(PlacesResponseDecoder decoder, ObjectMapper objectMapper, Path fixtureDir,
+                                long latencyMs, long jitterMs, GooglePlacesProvider recorder) {
+        super(decoder, objectMapper);
+        this.fixtureDir = fixtureDir;
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.recorder = recorder;
+    }
+
+    @Override
+    protected <T> T exchange(MapsEndpoint endpoint, String url, Map<String, Object> params,
+                             ResponseReader<T> reader) {
+        Path fixture = fixtureDir.resolve(endpoint.getKey()).resolve(fixtureName(url, params));
+
+        if (recorder != null) {
+            return recorder.exchange(endpoint, url, params, body -> {
+                byte[] bytes = body.readAllBytes();
+                Files.createDirectories(fixture.getParent());
+                Files.write(fixture, bytes);
+                return reader.read(new ByteArrayInputStream(bytes));
+            });
+        }
+
+        injectLatency();
+        try {
+            if (!Files.exists(fixture)) {
+                log.warn("저장된 응답이 없어 오류 응답으로 대신합니다: {} {}", endpoint.getKey(), params);
+                return reader.read(new ByteArrayInputStream(EMPTY_RESPONSE));
+            }
+            try (InputStream body = Files.newInputStream(fixture)) {
+                return reader.read(body);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void injectLatency() {
+        long delay = latencyMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0);
+        if (delay <= 0) return;
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String fixtureName(String url, Map<String, Object> params) {
+        StringBuilder canonical = new StringBuilder(url);
+        new TreeMap<>(params).forEach((k, v) -> canonical.append('\n').append(k).append('=').append(v));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest) + ".json";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.travel_project.domain.gpt_place.util;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OpenAI 구조화 출력(response_format: json_schema) 정의
+ * strict 모드이므로 모든 속성은 required, additionalProperties 는 false
+ * 스키마는 GptPlaceListDTO / GptScheduleDTO(schedules 배열의 원소) 와 같은 모양
+ */
+public final class GptResponseSchemas {
+
+    private GptResponseSchemas() {
+    }
+
+    // {"places": [{"name", "description"}]}
+    public static Map<String, Object> placeList() {
+        Map<String, Object> place = object(Map.of(
+                "name", Map.of("type", "string"),
+                "description", Map.of("type", "string")));
+        return jsonSchema("place_list", object(Map.of(
+                "places", Map.of("type", "array", "items", place))));
+    }
+
+    // {"schedules": [{"place", "title", "content", "day", "startTime", "endTime"}]}
+    public static Map<String, Object> scheduleList() {
+        Map<String, Object> schedule = object(Map.of(
+                "place", Map.of("type", "string"),
+                "title", Map.of("type", "string"),
+                "content", Map.of("type", "string"),
+                "day", Map.of("type", "integer"),
+                "startTime", Map.of("type", "number"),
+                "endTime", Map.of("type", "number")));
+        return jsonSchema("schedule_list", object(Map.of(
+                "schedules", Map.of("type", "array", "items", schedule))));
+    }
+
+    private static Map<String, Object> object(Map<String, Object> properties) {
+        return Map.of(
+                "type", "object",
+                "properties", properties,
+                "required", List.copyOf(properties.keySet()),
+                "additionalProperties", false);
+    }
+
+    private static Map<String, Object> jsonSchema(String name, Map<String, Object> schema) {
+        return Map.of(
+                "type", "json_schema",
+                "json_schema", Map.of(
+                        "name", name,
+                        "strict", true,
+                        "schema", schema));
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.travel_project.domain.gpt_place.util;
+
+import com.example.travel_project.domain.gpt_place.web.dto.GptScheduleDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * GPT 일정 응답 파서 (한 번 훑으면서 schedules 배열의 원소가 닫힐 때마다 바로 꺼냄)
+ * - {"schedules": [ {...}, {...} ]} 형태(앞뒤 설명·마크다운은 무시)와 맨 배열 [ {...} ] 형태를 모두 처리
+ * - 문자열 안의 괄호·이스케이프는 구분하고, 읽지 못하는 원소는 건너뛰고 dropped 로 셈
+ * - 응답이 토큰 한도 등으로 중간에 끊기면 finish() 에서 마지막 원소를 복구 시도:
+ *   열린 문자열을 닫고, 값이 없는 키·끝이 잘렸을 수 있는 숫자/리터럴 값(콤마로 끝난 값은 유지)·남은 콤마를 지운 뒤 열린 괄호를 닫음
+ *   복구한 일정은 장소·일차·시간이 온전할 때만(place 있음, day >= 1, endTime > startTime) 사용
+ * 스트리밍(feed 여러 번)과 전체 문자열(feed 한 번 + finish) 모두 같은 방식으로 처리, 한 응답 전용 (스레드 안전하지 않음)
+ */
+@Slf4j
+public class GptScheduleStreamParser {
+
+    private final ObjectMapper objectMapper;
+    private final Consumer<GptScheduleDTO> onSchedule;
+
+    private final StringBuilder buffer = new StringBuilder();
+    private final List<GptScheduleDTO> schedules = new ArrayList<>();
+
+    private int pos = 0;              // 다음에 볼 문자 위치
+    private boolean inString = false;
+    private boolean escaped = false;
+    private int stringStart = -1;
+    private String lastKey = null;    // 배열 시작 전 마지막으로 닫힌 문자열
+    private int outerDepth = 0;       // 배열 밖 중괄호 깊이
+    private boolean inArray = false;
+    private boolean done = false;
+    private final StringBuilder open = new StringBuilder();   // 배열 원소 안에서 열린 괄호들 ('{' / '[')
+    private int objectStart = -1;
+
+    private int dropped = 0;
+    private int repaired = 0;
+
+    public GptScheduleStreamParser(ObjectMapper objectMapper, Consumer<GptScheduleDTO> onSchedule) {
+        this.objectMapper = objectMapper;
+        this.onSchedule = onSchedule;
+    }
+
+    // 전체 응답을 한 번에 파싱 (끊긴 마지막 원소 복구 포함)
+    public static GptScheduleStreamParser parse(ObjectMapper objectMapper, String content) {
+        GptScheduleStreamParser parser = new GptScheduleStreamParser(objectMapper, schedule -> {
+        });
+        parser.feed(content);
+        parser.finish();
+        return parser;
+    }
+
+    public void feed(String chunk) {
+        if (done || chunk == null || chunk.isEmpty()) return;
+        buffer.append(chunk);
+
+        for (; pos < buffer.length() && !done; pos++) {
+            char c = buffer.charAt(pos);
+
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                    if (!inArray) {
+                        lastKey = buffer.substring(stringStart + 1, pos);
+                    }
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> {
+                    inString = true;
+                    stringStart = pos;
+                }
+                case '{' -> {
+                    if (inArray) {
+                        if (open.isEmpty()) objectStart = pos;
+                        open.append('{');
+                    } else {
+                        outerDepth++;
+                    }
+                }
+                case '[' -> {
+                    if (inArray) {
+                        if (!open.isEmpty()) open.append('[');
+                    } else if ("schedules".equals(lastKey) || outerDepth == 0) {
+                        // "schedules" 값인 배열, 또는 객체 밖에서 시작하는 맨 배열
+                        inArray = true;
+                    }
+                }
+                case '}', ']' -> {
+                    if (inArray && !open.isEmpty()) {
+                        open.setLength(open.length() - 1);
+                        if (open.isEmpty()) emit(buffer.substring(objectStart, pos + 1));
+                    } else if (inArray && c == ']') {
+                        done = true;
+                    } else if (!inArray && c == '}' && outerDepth > 0) {
+                        outerDepth--;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    /**
+     * 응답이 끝났을 때 호출: 닫히지 않은 마지막 원소가 있으면 복구해서 꺼내거나 dropped 로 셈
+     */
+    public void finish() {
+        if (done) return;
+        done = true;
+        if (!inArray || open.isEmpty()) return;
+
+        String fixed = repair(buffer.substring(objectStart));
+        GptScheduleDTO schedule = null;
+        try {
+            schedule = objectMapper.readValue(fixed, GptScheduleDTO.class);
+        } catch (Exception e) {
+            log.debug("잘린 일정 항목을 복구하지 못했습니다: {}", e.getMessage());
+        }
+        if (schedule != null && isComplete(schedule)) {
+            repaired++;
+            accept(schedule);
+        } else {
+            dropped++;
+        }
+    }
+
+    // 지금까지 꺼낸 일정 (순서대로)
+    public List<GptScheduleDTO> getSchedules() {
+        return Collections.unmodifiableList(schedules);
+    }
+
+    public boolean isComplete() {
+        return done;
+    }
+
+    // 읽지 못해 버린 원소 수 (끊긴 마지막 원소 포함)
+    public int getDroppedCount() {
+        return dropped;
+    }
+
+    // 끊긴 원소를 복구해서 꺼낸 수 (0 또는 1)
+    public int getRepairedCount() {
+        return repaired;
+    }
+
+    private void emit(String json) {
+        GptScheduleDTO schedule;
+        try {
+            schedule = objectMapper.readValue(json, GptScheduleDTO.class);
+        } catch (Exception e) {
+            dropped++;
+            log.warn("일정 항목을 읽지 못해 건너뜁니다: {}", e.getMessage());
+            return;
+        }
+        accept(schedule);
+    }
+
+    private void accept(GptScheduleDTO schedule) {
+        schedules.add(schedule);
+        onSchedule.accept(schedule);
+    }
+
+    private static boolean isComplete(GptScheduleDTO schedule) {
+        return schedule.getPlace() != null && !schedule.getPlace().isBlank()
+                && schedule.getDay() >= 1
+                && schedule.getEndTime() > schedule.getStartTime();
+    }
+
+    // 끊긴 원소 텍스트를 닫아서 JSON 으로 만듦
+    private String repair(String partial) {
+        StringBuilder sb = new StringBuilder(partial);
+        if (inString) {
+            if (escaped) sb.setLength(sb.length() - 1);   // 반쯤 쓴 이스케이프 제거
+            sb.append('"');
+        }
+
+        boolean changed = true;
+        boolean afterComma = false;   // 콤마 앞의 값은 끝까지 쓰인 값
+        while (changed) {
+            changed = false;
+            trimTrailingWhitespace(sb);
+            if (sb.isEmpty()) break;
+            char last = sb.charAt(sb.length() - 1);
+
+            if (last == ',') {
+                sb.setLength(sb.length() - 1);
+                afterComma = true;
+                changed = true;
+            } else if (afterComma) {
+                break;
+            } else if (last == ':') {
+                // 값이 없는 키 제거
+                sb.setLength(sb.length() - 1);
+                removeTrailingString(sb);
+                changed = true;
+            } else if (Character.isLetterOrDigit(last) || last == '.' || last == '-' || last == '+') {
+                // 끝이 잘렸을 수 있는 숫자·리터럴 값은 키와 함께 제거
+                int i = sb.length();
+                while (i > 0 && isLiteralChar(sb.charAt(i - 1))) i--;
+                sb.setLength(i);
+                trimTrailingWhitespace(sb);
+                if (!sb.isEmpty() && sb.charAt(sb.length() - 1) == ':') {
+                    sb.setLength(sb.length() - 1);
+                    removeTrailingString(sb);
+                }
+                changed = true;
+            } else if (last == '"' && open.charAt(open.length() - 1) == '{' && isDanglingKey(sb)) {
+                removeTrailingString(sb);
+                changed = true;
+            }
+        }
+
+        for (int i = open.length() - 1; i >= 0; i--) {
+            sb.append(open.charAt(i) == '{' ? '}' : ']');
+        }
+        return sb.toString();
+    }
+
+    // 마지막 문자열 앞이 '{' 또는 ',' 이면 값이 없는 키
+    private static boolean isDanglingKey(StringBuilder sb) {
+        int start = trailingStringStart(sb);
+        if (start < 0) return false;
+        int i = start - 1;
+        while (i >= 0 && Character.isWhitespace(sb.charAt(i))) i--;
+        return i >= 0 && (sb.charAt(i) == '{' || sb.charAt(i) == ',');
+    }
+
+    private static void removeTrailingString(StringBuilder sb) {
+        trimTrailingWhitespace(sb);
+        int start = trailingStringStart(sb);
+        if (start >= 0) sb.setLength(start);
+    }
+
+    // 끝에 있는 문자열의 여는 따옴표 위치 (없으면 -1)
+    private static int trailingStringStart(StringBuilder sb) {
+        int end = sb.length() - 1;
+        if (end < 0 || sb.charAt(end) != '"') return -1;
+        for (int i = end - 1; i >= 0; i--) {
+            if (sb.charAt(i) != '"') continue;
+            int backslashes = 0;
+            for (int j = i - 1; j >= 0 && sb.charAt(j) == '\\'; j--) backslashes++;
+            if (backslashes % 2 == 0) return i;
+        }
+        return -1;
+    }
+
+    private static boolean isLiteralChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '.' || c == '-' || c == '+';
+    }
+
+    private static void trimTrailingWhitespace(StringBuilder sb) {
+        int i = sb.length();
+        while (i > 0 && Character.isWhitespace(sb.charAt(i - 1))) i--;
+        sb.setLength(i);
+    }
+}
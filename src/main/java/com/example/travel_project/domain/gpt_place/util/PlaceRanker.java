@@ -0,0 +1,51 @@
+package com.example.travel_project.domain.gpt_place.util;
+
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceDTO;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 점수 상위 K개 선택
+ * 전체 정렬 대신 크기 K의 힙만 유지하므로 K가 작을 때(1~3개) 결과 수와 상관없이 거의 한 번의 순회로 끝남
+ * 점수는 원소마다 한 번만 계산하고, 점수가 같으면 placeId 오름차순으로 순서를 고정
+ */
+public final class PlaceRanker {
+
+    // 뒤쪽(더 나쁜) 순서: 점수 낮은 쪽, 같으면 placeId 큰 쪽 (placeId 없으면 가장 뒤)
+    private static final Comparator<Scored> BEST_FIRST = Comparator
+            .comparingDouble(Scored::score).reversed()
+            .thenComparing(s -> s.place().getPlaceId(), Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private PlaceRanker() {
+    }
+
+    public static List<PlaceDTO> topK(Iterable<PlaceDTO> places, int k, PlaceScorer scorer) {
+        if (k <= 0) return new ArrayList<>();
+
+        // 힙의 루트는 현재 상위 K개 중 가장 나쁜 원소
+        PriorityQueue<Scored> heap = new PriorityQueue<>(k + 1, BEST_FIRST.reversed());
+        for (PlaceDTO place : places) {
+            Scored candidate = new Scored(place, scorer.score(place));
+            if (heap.size() < k) {
+                heap.add(candidate);
+            } else if (BEST_FIRST.compare(candidate, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+
+        List<Scored> selected = new ArrayList<>(heap);
+        selected.sort(BEST_FIRST);
+        List<PlaceDTO> result = new ArrayList<>(selected.size());
+        for (Scored s : selected) {
+            result.add(s.place());
+        }
+        return result;
+    }
+
+    private record Scored(PlaceDTO place, double score) {
+    }
+}
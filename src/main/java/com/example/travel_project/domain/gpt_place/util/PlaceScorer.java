@@ -0,0 +1,29 @@
+package com.example.travel_project.domain.gpt_place.util;
+
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceDTO;
+
+/**
+ * 장소 순위 점수 함수
+ */
+@FunctionalInterface
+public interface PlaceScorer {
+
+    double score(PlaceDTO place);
+
+    /**
+     * 기본 점수: 평점 × log(리뷰 수 + 1)
+     */
+    static PlaceScorer popularity() {
+        return p -> p.getRate() * Math.log(p.getReviewCount() + 1);
+    }
+
+    /**
+     * 기준 좌표에서 멀수록 점수를 낮춤
+     * halfScoreMeters 만큼 떨어진 장소는 기본 점수의 절반
+     */
+    static PlaceScorer distanceWeighted(double lat, double lng, double halfScoreMeters) {
+        PlaceScorer base = popularity();
+        return p -> base.score(p)
+                / (1.0 + GeoUtils.haversineMeters(lat, lng, p.getLat(), p.getLng()) / halfScoreMeters);
+    }
+}
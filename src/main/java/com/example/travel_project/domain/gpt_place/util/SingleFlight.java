@@ -0,0 +1,90 @@
+package com.example.travel_project.domain.gpt_place.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 호출이 동시에 여러 번 들어오면 처음 호출(leader)만 실제로 실행하고, 나머지는 그 결과를 함께 받음
+ * 결과는 저장하지 않으므로(진행 중인 호출만 공유) TTL 캐시와 함께 사용
+ * leader 가 중단(interrupt)된 상태로 끝나면 그 결과는 공유하지 않고, 기다리던 호출이 다시 시도
+ * 메트릭: places.singleflight.calls{name, role=leader|shared}
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter leaders;
+    private final Counter shared;
+
+    public SingleFlight(MeterRegistry meterRegistry, String name) {
+        this.leaders = meterRegistry.counter("places.singleflight.calls", "name", name, "role", "leader");
+        this.shared = meterRegistry.counter("places.singleflight.calls", "name", name, "role", "shared");
+        meterRegistry.gauge("places.singleflight.in-flight", Tags.of("name", name),
+                inFlight, ConcurrentHashMap::size);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        boolean joined = false;
+        while (true) {
+            CompletableFuture<V> mine = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+
+            if (existing == null) {
+                leaders.increment();
+                return lead(key, mine, loader);
+            }
+
+            // 다시 시도해도 호출 한 번은 한 번만 셈
+            if (!joined) {
+                shared.increment();
+                joined = true;
+            }
+            try {
+                return existing.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("interrupted while waiting for a shared call");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof LeaderInterrupted) continue; // leader 결과를 못 받음 → 다시 시도
+                if (e.getCause() instanceof RuntimeException re) throw re;
+                if (e.getCause() instanceof Error err) throw err;
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    // 결과를 알리기 전에 먼저 맵에서 빼둠 → 다시 시도하는 호출이 이미 끝난 future 를 또 받아서 헛돌지 않음
+    private V lead(K key, CompletableFuture<V> mine, Supplier<V> loader) {
+        try {
+            V value = loader.get();
+            inFlight.remove(key, mine);
+            if (Thread.currentThread().isInterrupted()) {
+                mine.completeExceptionally(new LeaderInterrupted());
+            } else {
+                mine.complete(value);
+            }
+            return value;
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(Thread.currentThread().isInterrupted() ? new LeaderInterrupted() : e);
+            throw e;
+        }
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private static final class LeaderInterrupted extends RuntimeException {
+        private LeaderInterrupted() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -1,37 +1,48 @@
 package com.example.travel_project.domain.gpt_place.web.controller;
 
-import com.example.travel_project.domain.plan.web.dto.PlanDTO;
 import com.example.travel_project.domain.firestore.service.FirestoreService;
-import com.example.travel_project.domain.gpt_place.service.PlaceService;
-import com.example.travel_project.domain.gpt_place.service.ChatGptService;
+import com.example.travel_project.domain.gpt_place.service.PlanJobService;
+import com.example.travel_project.domain.gpt_place.web.dto.PlanJobDTO;
+import com.example.travel_project.domain.plan.service.IdempotencyStore;
 import com.example.travel_project.domain.plan.web.dto.PlanRequestDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.core.OAuth2AuthenticatedPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.Map;
+import java.net.URI;
 import java.util.concurrent.ExecutionException;
 
 
+@Slf4j
 @RestController
 @RequestMapping("/api/places")
 @RequiredArgsConstructor
 public class PlaceApiController {
-    private final PlaceService placeService;
-    private final ChatGptService chatGptService;
     private final FirestoreService firestoreService;
+    private final PlanJobService planJobService;
+    private final IdempotencyStore idempotencyStore;
 
+    /**
+     * 플랜 생성 작업 등록: 생성은 백그라운드에서 진행하고 바로 202 + 작업 id / 플랜 uuid 반환
+     * 진행 상황은 GET /api/places/jobs/{jobId} 또는 /api/places/jobs/{jobId}/events (SSE)
+     * Idempotency-Key 헤더가 같은 재요청은 새 작업을 만들지 않고 처음 작업의 현재 상태를 반환
+     * (처음 작업이 실패로 끝났으면 키가 풀려서 새 작업을 등록)
+     */
+    @Operation(summary = "플랜 생성 작업 등록")
     @PostMapping(
             consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<PlanDTO> searchPlaces(
+    public ResponseEntity<PlanJobDTO> searchPlaces(
             @RequestBody PlanRequestDTO req,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
             @AuthenticationPrincipal OAuth2AuthenticatedPrincipal principal
     ) throws ExecutionException, InterruptedException {
 
@@ -42,8 +53,82 @@ public class PlaceApiController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        PlanDTO resp = placeService.searchAndBuildPlaces(req, chatGptService, email);
-        return ResponseEntity.ok(resp);
+        IdempotencyStore.Result<PlanJobDTO> result = submitJob(req, idempotencyKey, email);
+        PlanJobDTO job = result.replayed() ? planJobService.current(result.value(), email) : result.value();
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/places/jobs/" + job.getJobId()))
+                .header(IdempotencyStore.REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(job);
+    }
+
+    @Operation(summary = "플랜 생성 작업 상태 조회")
+    @GetMapping(value = "/jobs/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PlanJobDTO> getJob(
+            @PathVariable String jobId,
+            @AuthenticationPrincipal OAuth2AuthenticatedPrincipal principal
+    ) {
+        String email = principal.getAttribute("email");
+        if (email == null || email.isBlank()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(planJobService.get(jobId, email));
+    }
+
+    /**
+     * 플랜 생성 작업 진행 상황 (SSE)
+     * - status   : 작업 상태 (PlanJobDTO, 구독 직후 + 단계가 바뀔 때마다, 마지막 status 후 스트림 종료)
+     * - places   : 추천 장소 목록 (PlaceListsDTO)
+     * - schedule : 일정 항목 하나 (ScheduleDTO, 미리보기)
+     * - schedules: 저장될 최종 일정 목록 (동선 최적화 후, 같은 id(i)의 미리보기를 대체)
+     */
+    @Operation(summary = "플랜 생성 작업 진행 상황 (SSE)")
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> jobEvents(
+            @PathVariable String jobId,
+            @AuthenticationPrincipal OAuth2AuthenticatedPrincipal principal
+    ) {
+        String email = principal.getAttribute("email");
+        if (email == null || email.isBlank()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(planJobService.subscribe(jobId, email));
     }
-}
 
+    /**
+     * searchPlaces 의 SSE 버전: 작업을 등록하고 바로 그 작업의 진행 상황을 구독
+     * 동시 실행 제한·대기열(PLAN_JOB_BUSY)과 Idempotency-Key 처리는 POST /api/places 와 같음
+     * (같은 키로 다시 오면 새 작업을 만들지 않고 처음 작업을 다시 구독)
+     * 이벤트는 /jobs/{jobId}/events 와 같음: status / places / schedule / schedules,
+     * 마지막 status(SUCCEEDED 면 저장된 plan, FAILED 면 error 포함) 후 스트림 종료
+     * 클라이언트 연결이 끊겨도 생성·저장은 끝까지 진행
+     */
+    @Operation(summary = "플랜 생성 (SSE 스트리밍)")
+    @PostMapping(
+            value = "/stream",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE
+    )
+    public ResponseEntity<SseEmitter> streamPlaces(
+            @RequestBody PlanRequestDTO req,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @AuthenticationPrincipal OAuth2AuthenticatedPrincipal principal
+    ) throws ExecutionException, InterruptedException {
+        String email = principal.getAttribute("email");
+        if (email == null || email.isBlank()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        IdempotencyStore.Result<PlanJobDTO> result = submitJob(req, idempotencyKey, email);
+        return ResponseEntity.ok()
+                .location(URI.create("/api/places/jobs/" + result.value().getJobId()))
+                .header(IdempotencyStore.REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(planJobService.subscribe(result.value().getJobId(), email));
+    }
+
+    // 작업 등록 (Idempotency-Key 처리 포함), 작업이 실패로 끝나면 키를 풀어서 같은 키로 다시 시도할 수 있게 함
+    private IdempotencyStore.Result<PlanJobDTO> submitJob(PlanRequestDTO req, String idempotencyKey, String email)
+            throws ExecutionException, InterruptedException {
+        return idempotencyStore.execute("places", email, idempotencyKey, req,
+                release -> planJobService.submit(req, email, release));
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.travel_project.domain.gpt_place.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class GeocodeDTO {   // Geocoding 결과 한 건 (좌표 + 주소)
+    private double lat;
+    private double lng;
+    private String formattedAddress;
+}
@@ -0,0 +1,14 @@
+package com.example.travel_project.domain.gpt_place.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+public class GptCompletionDTO {   // GPT 응답 본문 + 토큰 사용량
+    private String content;
+    private int promptTokens;
+    private int completionTokens;
+}
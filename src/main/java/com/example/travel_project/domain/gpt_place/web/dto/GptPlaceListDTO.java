@@ -0,0 +1,20 @@
+package com.example.travel_project.domain.gpt_place.web.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GptPlaceListDTO {   // 구조화 출력으로 받은 여행지 추천 목록
+    private List<Place> places;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Place {
+        private String name;           // 장소명
+        private String description;    // 간단한 설명
+    }
+}
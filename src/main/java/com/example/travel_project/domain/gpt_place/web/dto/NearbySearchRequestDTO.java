@@ -0,0 +1,16 @@
+package com.example.travel_project.domain.gpt_place.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class NearbySearchRequestDTO {   // Nearby Search 조건 (페이지 토큰 제외)
+    private double lat;
+    private double lng;
+    private int radius;         // m
+    private String type;
+    private String keyword;     // 없으면 null
+}
@@ -0,0 +1,15 @@
+package com.example.travel_project.domain.gpt_place.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class NearbySearchResultDTO {   // Nearby Search 페이지 조회 결과
+    private List<PlaceDTO> places;  // 점수순 상위 limit 개
+    private boolean complete;       // 모든 페이지를 정상 상태(OK / ZERO_RESULTS)로 받았는지, false 면 캐시하지 않음
+}
@@ -0,0 +1,18 @@
+package com.example.travel_project.domain.gpt_place.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PlaceRecommendationDTO {   // GPT 여행지 추천 응답을 파싱한 결과
+    private List<String> placeNames;                // 추천 순서대로
+    private Map<String, String> placeDescriptions;  // 장소명 → 설명
+}
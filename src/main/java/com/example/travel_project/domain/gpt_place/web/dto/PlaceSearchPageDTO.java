@@ -0,0 +1,16 @@
+package com.example.travel_project.domain.gpt_place.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class PlaceSearchPageDTO {   // Places 검색 응답 한 페이지
+    private String status;
+    private String nextPageToken;
+    private List<PlaceDTO> places;  // 필터를 통과한 장소만
+}
@@ -0,0 +1,26 @@
+package com.example.travel_project.domain.gpt_place.web.dto;
+
+import com.example.travel_project.domain.gpt_place.data.enums.GenerationStage;
+import com.example.travel_project.domain.gpt_place.data.enums.PlanJobStatus;
+import com.example.travel_project.domain.plan.web.dto.PlanDTO;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PlanJobDTO {   // 플랜 생성 작업 상태 (POST /api/places 응답, 상태 조회, SSE status 이벤트)
+    private String jobId;
+    private String planUuid;       // 작업이 끝나면 이 uuid 로 플랜이 저장됨
+    private PlanJobStatus status;
+    private GenerationStage stage;
+    private String error;          // FAILED 일 때 사유
+    private PlanDTO plan;          // SUCCEEDED 일 때 저장된 플랜
+    private Instant createdAt;
+    private Instant updatedAt;
+}
@@ -0,0 +1,176 @@
+package com.example.travel_project.domain.plan.service;
+
+import com.example.travel_project.apiPayload.code.status.ErrorStatus;
+import com.example.travel_project.apiPayload.exception.GeneralException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+
+/**
+ * Idempotency-Key 저장소 (플랜 생성 요청 중복 방지)
+ * 사용자 + 용도(scope) + 키 별로 첫 요청의 결과를 ttl 동안 보관
+ * - 같은 키로 다시 오면 작업을 다시 실행하지 않고 처음 결과를 반환 (처리 중이면 끝날 때까지 최대 wait-ms 기다림)
+ * - 같은 키로 다른 요청(fingerprint 가 다름)이 오면 IDEMPOTENCY_KEY_REUSED
+ * - 첫 요청이 실패하면 키를 지워서 같은 키로 다시 시도할 수 있게 함
+ *   비동기 작업처럼 나중에 실패하는 경우는 ReleasableAction 이 받은 release 를 호출해서 키를 지움
+ * 키가 없으면 그냥 실행, 보관 항목이 max-entries 를 넘으면 새 키는 보관하지 않고 실행
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Runnable NO_RELEASE = () -> {
+    };
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final long ttlMillis;
+    private final long waitMillis;
+    private final int maxEntries;
+
+    public IdempotencyStore(
+            MeterRegistry meterRegistry,
+            @Value("${idempotency.ttl-minutes:60}") long ttlMinutes,
+            @Value("${idempotency.wait-ms:10000}") long waitMillis,
+            @Value("${idempotency.max-entries:10000}") int maxEntries
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.ttlMillis = ttlMinutes * 60_000L;
+        this.waitMillis = waitMillis;
+        this.maxEntries = maxEntries;
+        meterRegistry.gauge("idempotency.entries", entries, Map::size);
+    }
+
+    /**
+     * key 로 action 을 한 번만 실행 (fingerprint 는 요청 본문처럼 equals 로 비교할 수 있는 값)
+     */
+    public <T> Result<T> execute(String scope, String owner, String key, Object fingerprint, Action<T> action)
+            throws ExecutionException, InterruptedException {
+        return execute(scope, owner, key, fingerprint, release -> action.run());
+    }
+
+    /**
+     * execute 와 같지만 action 이 결과를 반환한 뒤에 실패할 수 있는 경우 (예: 작업 등록 후 백그라운드 실행)
+     * action 에 넘긴 release 를 실패 시점에 호출하면 키를 지움 (그 사이 다른 요청이 차지한 키는 건드리지 않음)
+     */
+    public <T> Result<T> execute(String scope, String owner, String key, Object fingerprint, ReleasableAction<T> action)
+            throws ExecutionException, InterruptedException {
+        if (key == null || key.isBlank()) {
+            return new Result<>(action.run(NO_RELEASE), false);
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new GeneralException(ErrorStatus._BAD_REQUEST);
+        }
+
+        String id = scope + "|" + owner + "|" + key;
+        long now = System.currentTimeMillis();
+        Entry created = new Entry(fingerprint, now + ttlMillis);
+
+        Entry existing = entries.putIfAbsent(id, created);
+        if (existing != null && existing.expiresAt <= now) {
+            entries.remove(id, existing);
+            existing = entries.putIfAbsent(id, created);
+        }
+
+        if (existing == null) {
+            if (entries.size() > maxEntries) {
+                evictExpired();
+                if (entries.size() > maxEntries) {
+                    entries.remove(id, created);
+                    log.warn("Idempotency-Key 저장소가 가득 차서 키를 보관하지 않습니다: {}", scope);
+                    return new Result<>(action.run(NO_RELEASE), false);
+                }
+            }
+            count(scope, "new");
+            return new Result<>(runFirst(scope, id, created, action), false);
+        }
+
+        if (!Objects.equals(existing.fingerprint, fingerprint)) {
+            count(scope, "reused");
+            throw new GeneralException(ErrorStatus.IDEMPOTENCY_KEY_REUSED);
+        }
+        count(scope, existing.result.isDone() ? "replayed" : "joined");
+        return new Result<>(await(existing), true);
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt <= now && entry.result.isDone());
+    }
+
+    private <T> T runFirst(String scope, String id, Entry entry, ReleasableAction<T> action)
+            throws ExecutionException, InterruptedException {
+        Runnable release = () -> {
+            if (entries.remove(id, entry)) count(scope, "released");
+        };
+        try {
+            T value = action.run(release);
+            entry.result.complete(value);
+            return value;
+        } catch (ExecutionException | InterruptedException | RuntimeException e) {
+            entries.remove(id, entry);
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T await(Entry entry) throws ExecutionException, InterruptedException {
+        try {
+            return (T) entry.result.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new GeneralException(ErrorStatus.IDEMPOTENCY_KEY_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            // 처음 요청이 실패했으면 같은 실패를 돌려줌
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof ExecutionException ee) throw ee;
+            if (cause instanceof InterruptedException) throw new GeneralException(ErrorStatus.IDEMPOTENCY_KEY_IN_PROGRESS);
+            throw e;
+        }
+    }
+
+    private void count(String scope, String result) {
+        meterRegistry.counter("idempotency.requests", "scope", scope, "result", result).increment();
+    }
+
+    // 플랜 생성(Firestore 저장 포함) 작업
+    @FunctionalInterface
+    public interface Action<T> {
+        T run() throws ExecutionException, InterruptedException;
+    }
+
+    // 결과를 반환한 뒤에 실패할 수 있는 작업 (release 를 호출하면 키를 지움, 여러 번 호출해도 됨)
+    @FunctionalInterface
+    public interface ReleasableAction<T> {
+        T run(Runnable release) throws ExecutionException, InterruptedException;
+    }
+
+    /**
+     * 실행 결과 (replayed 가 true 면 이전 요청의 결과)
+     */
+    public record Result<T>(T value, boolean replayed) {
+    }
+
+    private static final class Entry {
+        private final Object fingerprint;
+        private final long expiresAt;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private Entry(Object fingerprint, long expiresAt) {
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
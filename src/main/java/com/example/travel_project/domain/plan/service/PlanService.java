@@ -20,7 +20,9 @@ import org.springframework.web.server.ResponseStatusException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -36,7 +38,27 @@ public class PlanService {
     private final FirestoreService firestoreService;
 
     public PlanDTO createPlan (Plan plan) throws ExecutionException, InterruptedException {
-        // uuid는 @PrePersist에서 자동 생성됨
+        PlaceListsDTO placeLists = PlaceListsDTO.builder()
+                .attractionList(List.of())
+                .cafeList(List.of())
+                .hotelList(List.of())
+                .restaurantList(List.of())
+                .build();
+
+        ScheduleListWrapperDTO scheduleList = ScheduleListWrapperDTO.builder()
+                .scheduleList(List.of())
+                .build();
+
+        return createPlan(plan, placeLists, scheduleList);
+    }
+
+    /**
+     * 플랜 등록 + Firestore 문서(info / places / schedules)를 한 번에 저장 (문서마다 한 번씩만 씀)
+     * 생성된 플랜(장소·일정 포함)을 저장할 때 사용
+     */
+    public PlanDTO createPlan (Plan plan, PlaceListsDTO placeLists, ScheduleListWrapperDTO scheduleList)
+            throws ExecutionException, InterruptedException {
+        // uuid는 @PrePersist에서 자동 생성됨 (미리 정해 두었으면 그대로 사용)
 
         Plan saved = planRepository.save(plan);
 
@@ -68,20 +90,11 @@ public class PlanService {
                         .build())
                 .build();
 
-        PlaceListsDTO placeLists = PlaceListsDTO.builder()
-                .attractionList(List.of())
-                .cafeList(List.of())
-                .hotelList(List.of())
-                .restaurantList(List.of())
-                .build();
-
-        ScheduleListWrapperDTO scheduleList = ScheduleListWrapperDTO.builder()
-                .scheduleList(List.of())
-                .build();
-
-        firestoreService.savePlanData(plan.getUuid(), "info", planInfo);
-        firestoreService.savePlanData(plan.getUuid(), "places", placeLists);
-        firestoreService.savePlanData(plan.getUuid(), "schedules", scheduleList);
+        Map<String, Object> documents = new LinkedHashMap<>();
+        documents.put("info", planInfo);
+        documents.put("places", placeLists);
+        documents.put("schedules", scheduleList);
+        firestoreService.savePlanDocuments(plan.getUuid(), documents);
 
         joinPlan(plan.getUuid(), plan.getAuthorEmail());
 
@@ -8,6 +8,7 @@ import com.example.travel_project.domain.plan.data.mapping.UserPlanList;
 import com.example.travel_project.domain.plan.repository.PlanRepository;
 import com.example.travel_project.domain.plan.repository.UserPlanListRepository;
 import com.example.travel_project.domain.user.repository.UserRepository;
+import com.example.travel_project.domain.plan.service.IdempotencyStore;
 import com.example.travel_project.domain.plan.service.PlanService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -36,6 +37,7 @@ public class PlanApiController {
     private final UserRepository userRepository;
     private final UserPlanListRepository userPlanListRepository;
     private final FirestoreService firestoreService;
+    private final IdempotencyStore idempotencyStore;
 
     /** 전체 플랜 조회 **/
     @GetMapping("/plans")
@@ -53,10 +55,11 @@ public class PlanApiController {
         return ResponseEntity.ok(results);
     }
 
-    /** 플랜 생성 */
+    /** 플랜 생성 (Idempotency-Key 헤더가 같은 재요청은 처음 만든 플랜을 반환) */
     @PostMapping("/plan")
     public ResponseEntity<PlanDTO> createPlan(
             @RequestBody PlanRequestDTO req,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
             @AuthenticationPrincipal OAuth2AuthenticatedPrincipal principal
     ) throws ExecutionException, InterruptedException {
         String email = principal.getAttribute("email");
@@ -77,9 +80,12 @@ public class PlanApiController {
 
         System.out.println("출발 : " + plan.getStartDate());
 
-        PlanDTO planDTO = planService.createPlan(plan);
+        IdempotencyStore.Result<PlanDTO> result = idempotencyStore.execute(
+                "plan", email, idempotencyKey, req, () -> planService.createPlan(plan));
 
-        return ResponseEntity.ok(planDTO);
+        return ResponseEntity.ok()
+                .header(IdempotencyStore.REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(result.value());
     }
 
     /** 단일 플랜 조회 */
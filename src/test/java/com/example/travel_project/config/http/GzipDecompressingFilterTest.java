@@ -0,0 +1,91 @@
+package com.example.travel_project.config.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GzipDecompressingFilterTest {
+
+    private static final String BODY = "data: {\"choices\":[{\"delta\":{\"content\":\"강릉 경포대 산책\"}}]}\n\n".repeat(400);
+
+    @Test
+    void inflatesBodySplitIntoChunksOfAnySize() throws Exception {
+        byte[] compressed = gzip(BODY.getBytes(StandardCharsets.UTF_8));
+
+        for (int chunkSize : new int[]{1, 2, 3, 7, 10, 11, 512, compressed.length}) {
+            assertEquals(BODY, inflate(compressed, chunkSize), "chunk size " + chunkSize);
+        }
+    }
+
+    @Test
+    void skipsOptionalHeaderFields() {
+        byte[] raw = BODY.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        // FEXTRA | FNAME | FCOMMENT | FHCRC
+        gzip.writeBytes(new byte[]{0x1f, (byte) 0x8b, 8, 4 | 8 | 16 | 2, 0, 0, 0, 0, 0, 3});
+        gzip.writeBytes(new byte[]{3, 0, 'a', 'b', 'c'});
+        gzip.writeBytes("body.json\0".getBytes(StandardCharsets.ISO_8859_1));
+        gzip.writeBytes("comment\0".getBytes(StandardCharsets.ISO_8859_1));
+        gzip.writeBytes(new byte[]{0, 0});
+        gzip.writeBytes(deflateRaw(raw));
+        gzip.writeBytes(new byte[8]);   // CRC32 + ISIZE (확인하지 않음)
+
+        byte[] compressed = gzip.toByteArray();
+        for (int chunkSize : new int[]{1, 5, compressed.length}) {
+            assertEquals(BODY, inflate(compressed, chunkSize), "chunk size " + chunkSize);
+        }
+    }
+
+    @Test
+    void ignoresBytesAfterCompressedStream() throws Exception {
+        byte[] compressed = gzip(BODY.getBytes(StandardCharsets.UTF_8));
+        byte[] padded = Arrays.copyOf(compressed, compressed.length + 16);
+
+        assertEquals(BODY, inflate(padded, 64));
+    }
+
+    @Test
+    void rejectsNonGzipBody() {
+        try (GzipDecompressingFilter.Gunzip gunzip = new GzipDecompressingFilter.Gunzip()) {
+            assertThrows(IllegalStateException.class,
+                    () -> gunzip.feed("{\"status\": \"OK\"}".getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    private static String inflate(byte[] compressed, int chunkSize) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GzipDecompressingFilter.Gunzip gunzip = new GzipDecompressingFilter.Gunzip()) {
+            for (int i = 0; i < compressed.length; i += chunkSize) {
+                out.writeBytes(gunzip.feed(Arrays.copyOfRange(compressed, i, Math.min(compressed.length, i + chunkSize))));
+            }
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gzip(byte[] raw) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflateRaw(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        deflater.setInput(raw);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        while (!deflater.finished()) {
+            out.write(buffer, 0, deflater.deflate(buffer));
+        }
+        deflater.end();
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.domain.gpt_place.web.dto.GptScheduleDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceListsDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DailyRouteOptimizerTest {
+
+    private final DailyRouteOptimizer optimizer = new DailyRouteOptimizer();
+
+    // 같은 위도선 위에 경도 0.01 도(약 890m) 간격으로 놓인 장소들
+    private final PlaceListsDTO placeLists = PlaceListsDTO.builder()
+            .attractionList(List.of(place("관광 A", 0.03), place("관광 B", 0.01), place("관광 C", 0.02)))
+            .restaurantList(List.of(place("점심 식당", 0.00), place("저녁 식당", 0.04)))
+            .cafeList(List.of())
+            .hotelList(List.of())
+            .build();
+
+    @Test
+    void reordersFlexibleSlotsBetweenFixedMeals() {
+        GptScheduleDTO lunch = schedule("점심 식당", "점심", 1, 12, 13);
+        GptScheduleDTO a = schedule("관광 A", "관광", 1, 13, 15);
+        GptScheduleDTO b = schedule("관광 B", "관광", 1, 15.5, 16.5);
+        GptScheduleDTO c = schedule("관광 C", "카페", 1, 17, 17.5);
+        GptScheduleDTO dinner = schedule("저녁 식당", "저녁", 1, 18, 19);
+
+        double saved = optimizer.optimize(List.of(lunch, a, b, c, dinner), placeLists);
+
+        assertTrue(saved > 1000, "saved " + saved);
+        // 점심 → B → C → A → 저녁, 항목 길이와 칸 사이 간격(0.5)은 유지
+        assertTimes(b, 13, 14);
+        assertTimes(c, 14.5, 15);
+        assertTimes(a, 15.5, 17.5);
+        assertTimes(lunch, 12, 13);
+        assertTimes(dinner, 18, 19);
+    }
+
+    @Test
+    void keepsRouteThatIsAlreadyShortest() {
+        GptScheduleDTO lunch = schedule("점심 식당", "점심", 1, 12, 13);
+        GptScheduleDTO b = schedule("관광 B", "관광", 1, 13, 14);
+        GptScheduleDTO c = schedule("관광 C", "관광", 1, 14, 15);
+        GptScheduleDTO a = schedule("관광 A", "관광", 1, 15, 16);
+        GptScheduleDTO dinner = schedule("저녁 식당", "저녁", 1, 18, 19);
+
+        assertEquals(0.0, optimizer.optimize(List.of(lunch, b, c, a, dinner), placeLists));
+        assertTimes(b, 13, 14);
+        assertTimes(c, 14, 15);
+        assertTimes(a, 15, 16);
+    }
+
+    @Test
+    void treatsUnknownPlaceAsFixed() {
+        GptScheduleDTO a = schedule("관광 A", "관광", 1, 9, 10);
+        GptScheduleDTO unknown = schedule("목록에 없는 곳", "관광", 1, 10, 11);
+        GptScheduleDTO b = schedule("관광 B", "관광", 1, 11, 12);
+
+        // 모르는 장소가 구간을 나눠서 바꿀 수 있는 구간이 모두 한 항목뿐
+        assertEquals(0.0, optimizer.optimize(List.of(a, unknown, b), placeLists));
+        assertTimes(a, 9, 10);
+        assertTimes(unknown, 10, 11);
+        assertTimes(b, 11, 12);
+    }
+
+    @Test
+    void optimizesEachDaySeparately() {
+        GptScheduleDTO day1Lunch = schedule("점심 식당", "점심", 1, 12, 13);
+        GptScheduleDTO day1A = schedule("관광 A", "관광", 1, 13, 14);
+        GptScheduleDTO day1B = schedule("관광 B", "관광", 1, 14, 15);
+        GptScheduleDTO day2Lunch = schedule("점심 식당", "점심", 2, 12, 13);
+        GptScheduleDTO day2B = schedule("관광 B", "관광", 2, 13, 14);
+        GptScheduleDTO day2A = schedule("관광 A", "관광", 2, 14, 15);
+
+        optimizer.optimize(List.of(day2A, day1B, day2Lunch, day1A, day1Lunch, day2B), placeLists);
+
+        assertTimes(day1B, 13, 14);
+        assertTimes(day1A, 14, 15);
+        assertTimes(day2B, 13, 14);
+        assertTimes(day2A, 14, 15);
+    }
+
+    @Test
+    void matchesPlaceNamesIgnoringWhitespace() {
+        GptScheduleDTO lunch = schedule("점심식당", "점심", 1, 12, 13);
+        GptScheduleDTO a = schedule("관광A", "관광", 1, 13, 14);
+        GptScheduleDTO b = schedule(" 관광  B ", "관광", 1, 14, 15);
+
+        assertTrue(optimizer.optimize(List.of(lunch, a, b), placeLists) > 0);
+        assertTimes(b, 13, 14);
+        assertTimes(a, 14, 15);
+    }
+
+    private static PlaceDTO place(String name, double lng) {
+        return PlaceDTO.builder().name(name).placeId(name).lat(37.75).lng(128.90 + lng).build();
+    }
+
+    private static GptScheduleDTO schedule(String place, String title, int day, double start, double end) {
+        return new GptScheduleDTO(place, title, "", day, start, end);
+    }
+
+    private static void assertTimes(GptScheduleDTO schedule, double start, double end) {
+        assertEquals(start, schedule.getStartTime(), 1e-9);
+        assertEquals(end, schedule.getEndTime(), 1e-9);
+    }
+}
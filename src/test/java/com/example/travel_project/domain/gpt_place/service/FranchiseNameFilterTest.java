@@ -0,0 +1,84 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FranchiseNameFilterTest {
+
+    private final FranchiseNameFilter filter = new FranchiseNameFilter();
+
+    @Test
+    void matchesDefaultNamesInsidePlaceNames() {
+        assertTrue(filter.matches("스타벅스 강릉경포대점"));
+        assertTrue(filter.matches("강릉 교동 BBQ"));
+        assertTrue(filter.matches("Starbucks Gangneung"));
+    }
+
+    @Test
+    void ignoresSpacingCaseAndSymbols() {
+        assertTrue(filter.matches("투썸 플레이스 강릉점"));
+        assertTrue(filter.matches("kfc 강릉"));
+        assertTrue(filter.matches("PAIKS COFFEE"));
+        assertTrue(filter.matches("Ｍｃ Ｄｏｎａｌｄ'ｓ"));   // 전각 문자 (NFKC)
+        assertTrue(filter.matches("Angel in us"));
+    }
+
+    @Test
+    void keepsLocalPlaces() {
+        assertFalse(filter.matches("테라로사 커피공장"));
+        assertFalse(filter.matches("초당 할머니 순두부"));
+        assertFalse(filter.matches("스타 카페"));
+        assertFalse(filter.matches(""));
+        assertFalse(filter.matches(null));
+    }
+
+    @Test
+    void followsFailureLinksBetweenOverlappingNames() throws Exception {
+        Path file = excludeFile("abcd", "bcx");
+
+        // "abc" 까지 따라가다 끊겨도 "bc" 에서 이어서 "bcx" 를 찾아야 함
+        assertTrue(filter.matches("zabcx"));
+        assertTrue(filter.matches("aabcd"));
+        assertFalse(filter.matches("abcbd"));
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void reloadsExcludeFileWhenModified() throws Exception {
+        Path file = excludeFile("# 지역 체인", "강릉커피체인");
+        assertTrue(filter.matches("강릉 커피 체인 2호점"));
+        assertTrue(filter.matches("스타벅스"));
+
+        Files.write(file, List.of("새로운체인"), StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 60_000));
+        filter.reloadIfChanged();
+
+        assertFalse(filter.matches("강릉 커피 체인 2호점"));
+        assertTrue(filter.matches("새로운 체인"));
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void keepsPreviousListWhenFileIsMissing() {
+        ReflectionTestUtils.setField(filter, "excludeFile", "/nonexistent/franchise.txt");
+        filter.init();
+
+        assertTrue(filter.matches("스타벅스"));
+    }
+
+    private Path excludeFile(String... lines) throws Exception {
+        Path file = Files.createTempFile("franchise", ".txt");
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+        ReflectionTestUtils.setField(filter, "excludeFile", file.toString());
+        filter.init();
+        return file;
+    }
+}
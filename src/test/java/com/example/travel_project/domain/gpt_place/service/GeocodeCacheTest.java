@@ -0,0 +1,109 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.domain.gpt_place.web.dto.GeocodeDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeocodeCacheTest {
+
+    private static final GeocodeDTO GANGNEUNG = GeocodeDTO.builder()
+            .lat(37.7519).lng(128.8761).formattedAddress("대한민국 강원특별자치도 강릉시").build();
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void sharesResultAcrossNormalizedQueries() {
+        GeocodeCache cache = new GeocodeCache(registry, 10, 60, 10);
+        Function<String, Optional<GeocodeDTO>> loader = counting(Optional.of(GANGNEUNG));
+
+        assertSame(GANGNEUNG, cache.get("강릉 중앙시장", loader).orElseThrow());
+        assertSame(GANGNEUNG, cache.get("  강릉   중앙시장 ", loader).orElseThrow());
+        assertEquals(1, calls.get());
+        assertEquals(1.0, registry.counter("places.geocode.cache", "result", "hit").count());
+    }
+
+    @Test
+    void normalizesWhitespaceAndCase() {
+        assertEquals("gangneung station", GeocodeCache.normalize("  Gangneung \t Station "));
+        assertEquals("", GeocodeCache.normalize(null));
+    }
+
+    @Test
+    void cachesZeroResultsWithNegativeTtl() {
+        GeocodeCache cache = new GeocodeCache(registry, 10, 60, 10);
+        Function<String, Optional<GeocodeDTO>> loader = counting(Optional.empty());
+
+        assertTrue(cache.get("없는 지역", loader).isEmpty());
+        assertTrue(cache.get("없는 지역", loader).isEmpty());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void skipsZeroResultsWhenNegativeTtlIsZero() {
+        GeocodeCache cache = new GeocodeCache(registry, 10, 60, 0);
+        Function<String, Optional<GeocodeDTO>> loader = counting(Optional.empty());
+
+        cache.get("없는 지역", loader);
+        cache.get("없는 지역", loader);
+
+        assertEquals(2, calls.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void doesNotCacheLoaderErrors() {
+        GeocodeCache cache = new GeocodeCache(registry, 10, 60, 10);
+        Function<String, Optional<GeocodeDTO>> failing = query -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("OVER_QUERY_LIMIT");
+        };
+
+        assertThrows(IllegalStateException.class, () -> cache.get("강릉", failing));
+        assertEquals(0, cache.size());
+        assertSame(GANGNEUNG, cache.get("강릉", counting(Optional.of(GANGNEUNG))).orElseThrow());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void reloadsExpiredEntries() {
+        GeocodeCache cache = new GeocodeCache(registry, 10, 0, 0);
+        Function<String, Optional<GeocodeDTO>> loader = counting(Optional.of(GANGNEUNG));
+
+        cache.get("강릉", loader);
+        cache.get("강릉", loader);
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedOverMaxSize() {
+        GeocodeCache cache = new GeocodeCache(registry, 2, 60, 10);
+        Function<String, Optional<GeocodeDTO>> loader = counting(Optional.of(GANGNEUNG));
+
+        cache.get("a", loader);
+        cache.get("b", loader);
+        cache.get("a", loader);
+        cache.get("c", loader);   // b 제거
+        cache.get("a", loader);
+        cache.get("b", loader);   // 다시 조회
+
+        assertEquals(4, calls.get());
+        assertEquals(2, cache.size());
+        assertEquals(2.0, registry.counter("places.geocode.cache.evictions").count());
+    }
+
+    private Function<String, Optional<GeocodeDTO>> counting(Optional<GeocodeDTO> result) {
+        return query -> {
+            calls.incrementAndGet();
+            return result;
+        };
+    }
+}
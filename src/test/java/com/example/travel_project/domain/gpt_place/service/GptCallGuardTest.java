@@ -0,0 +1,106 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.domain.gpt_place.data.enums.GptCallKind;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GptCallGuardTest {
+
+    private static final String PROMPT = "가".repeat(8000);
+
+    // base 5s, 프롬프트 1000자당 0.5s, 출력 토큰당 12ms(최대 2000 토큰), p99 × 1.5, 최대 60s, 조각 사이 50ms
+    private final GptCallGuard guard = new GptCallGuard(new SimpleMeterRegistry(),
+            60_000, 5_000, 500, 12, 2_000, 0.99, 1.5, 50,
+            true, 0.95, 20, 4,
+            20, 10, 0.5, 30_000);
+
+    @AfterEach
+    void shutdown() {
+        guard.shutdown();
+    }
+
+    @Test
+    void estimatesDeadlineUntilEnoughSamples() {
+        // 5000 + 8000자 × 0.5ms + 2000 토큰 × 12ms
+        assertEquals(Duration.ofMillis(33_000), guard.deadline(GptCallKind.SCHEDULE, PROMPT, 8000));
+        assertEquals(Duration.ofMillis(15_000), guard.deadline(GptCallKind.RECOMMENDATION, PROMPT, 500));
+        // 스트리밍 첫 응답은 출력 길이와 관계없음
+        assertEquals(Duration.ofMillis(9_000), guard.firstByteTimeout(PROMPT));
+        assertTrue(guard.hedgeDelay(GptCallKind.SCHEDULE).isEmpty());
+    }
+
+    @Test
+    void keepsLatenciesPerCallKind() {
+        succeed(GptCallKind.SCHEDULE, 20, Duration.ofSeconds(30));
+        succeed(GptCallKind.RECOMMENDATION, 20, Duration.ofSeconds(4));
+
+        assertEquals(Duration.ofSeconds(30), guard.hedgeDelay(GptCallKind.SCHEDULE).orElseThrow());
+        assertEquals(Duration.ofSeconds(4), guard.hedgeDelay(GptCallKind.RECOMMENDATION).orElseThrow());
+        assertEquals(Duration.ofMillis(45_000), guard.deadline(GptCallKind.SCHEDULE, PROMPT, 8000));
+        assertEquals(Duration.ofMillis(6_000), guard.deadline(GptCallKind.RECOMMENDATION, PROMPT, 8000));
+        // 표본이 없는 종류는 여전히 추정값
+        assertEquals(Duration.ofMillis(33_000), guard.deadline(GptCallKind.CHAT, PROMPT, 8000));
+    }
+
+    @Test
+    void timedOutCallsLetDeadlineGrow() {
+        succeed(GptCallKind.SCHEDULE, 20, Duration.ofSeconds(20));
+        Duration first = guard.deadline(GptCallKind.SCHEDULE, PROMPT, 8000);
+        assertEquals(Duration.ofMillis(30_000), first);
+
+        // 제한 시간에 걸린 호출은 그 제한 시간을 (실제 지연은 그 이상인) 표본으로 남김
+        for (int i = 0; i < 3; i++) {
+            guard.acquire(GptCallKind.SCHEDULE).timeout(first);
+        }
+
+        assertEquals(Duration.ofMillis(45_000), guard.deadline(GptCallKind.SCHEDULE, PROMPT, 8000));
+    }
+
+    @Test
+    void streamWatchOnlyExpiresWhenChunksStop() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        try (GptCallGuard.Watch watch = guard.watchStream(Duration.ofMillis(100))) {
+            watch.attach(() -> closed.set(true));
+
+            // 첫 조각 뒤로 조각이 계속 오면 첫 응답 제한 시간·조각 사이 제한 시간을 합친 것보다 오래 걸려도 끊지 않음
+            long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+            while (System.nanoTime() < until) {
+                watch.touch();
+                Thread.sleep(10);
+            }
+            assertFalse(watch.isExpired());
+            assertTrue(watch.getFirstByteNanos() >= 0);
+
+            // 조각이 멈추면 조각 사이 제한 시간(50ms) 뒤에 응답을 닫음
+            Thread.sleep(300);
+            assertTrue(watch.isExpired());
+            assertTrue(closed.get());
+        }
+    }
+
+    @Test
+    void streamWatchExpiresWithoutFirstChunk() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        try (GptCallGuard.Watch watch = guard.watchStream(Duration.ofMillis(50))) {
+            watch.attach(() -> closed.set(true));
+            Thread.sleep(300);
+
+            assertTrue(watch.isExpired());
+            assertTrue(closed.get());
+            assertEquals(-1, watch.getFirstByteNanos());
+        }
+    }
+
+    private void succeed(GptCallKind kind, int times, Duration latency) {
+        for (int i = 0; i < times; i++) {
+            guard.acquire(kind).success(latency.toNanos());
+        }
+    }
+}
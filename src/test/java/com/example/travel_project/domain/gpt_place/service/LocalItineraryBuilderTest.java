@@ -0,0 +1,187 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.domain.gpt_place.web.dto.GptScheduleDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceListsDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalItineraryBuilderTest {
+
+    private static final Set<String> MEALS = Set.of("아침", "점심", "저녁");
+
+    private final LocalItineraryBuilder builder = new LocalItineraryBuilder();
+
+    @Test
+    void spacesMealsAtLeastFiveHoursWithoutOverlap() {
+        for (int days = 1; days <= 6; days++) {
+            List<GptScheduleDTO> schedules = builder.build(days, places(30));
+
+            for (int day = 1; day <= days; day++) {
+                List<GptScheduleDTO> ofDay = ofDay(schedules, day);
+                assertFalse(ofDay.isEmpty(), days + "일 여행 " + day + "일차");
+
+                List<Double> mealStarts = ofDay.stream()
+                        .filter(s -> MEALS.contains(s.getTitle()))
+                        .map(GptScheduleDTO::getStartTime)
+                        .toList();
+                for (int i = 1; i < mealStarts.size(); i++) {
+                    assertTrue(mealStarts.get(i) - mealStarts.get(i - 1) >= 5.0,
+                            days + "일 여행 " + day + "일차 식사 간격 " + mealStarts);
+                }
+                for (int i = 0; i < ofDay.size(); i++) {
+                    GptScheduleDTO s = ofDay.get(i);
+                    assertTrue(s.getEndTime() > s.getStartTime());
+                    if (i > 0) assertTrue(ofDay.get(i - 1).getEndTime() <= s.getStartTime(), "겹치는 일정 " + ofDay);
+                }
+            }
+        }
+    }
+
+    @Test
+    void singleDayTripHasNoHotel() {
+        List<GptScheduleDTO> schedules = builder.build(1, places(10));
+
+        assertEquals(10.0, schedules.get(0).getStartTime());
+        assertTrue(schedules.stream().noneMatch(s -> s.getTitle().startsWith("체크")));
+        assertEquals(List.of("관광", "점심", "관광", "카페", "저녁"), titles(schedules));
+    }
+
+    @Test
+    void checksInOnFirstDayAndOutOnLastDayAtSameHotel() {
+        List<GptScheduleDTO> schedules = builder.build(3, places(20));
+
+        List<GptScheduleDTO> checkIn = schedules.stream().filter(s -> s.getTitle().equals("체크인")).toList();
+        List<GptScheduleDTO> checkOut = schedules.stream().filter(s -> s.getTitle().equals("체크아웃")).toList();
+        assertEquals(1, checkIn.size());
+        assertEquals(1, checkOut.size());
+        assertEquals(1, checkIn.get(0).getDay());
+        assertEquals(3, checkOut.get(0).getDay());
+        assertEquals(checkIn.get(0).getPlace(), checkOut.get(0).getPlace());
+        assertEquals(12.0, ofDay(schedules, 1).get(0).getStartTime());
+        assertEquals("아침", ofDay(schedules, 2).get(0).getTitle());
+    }
+
+    @Test
+    void choosesHotelNearestToAttractionsAmongTopCandidates() {
+        PlaceListsDTO lists = PlaceListsDTO.builder()
+                .attractionList(List.of(place("관광1", 0.00), place("관광2", 0.02)))
+                .restaurantList(List.of(place("식당1", 0.01), place("식당2", 0.01), place("식당3", 0.01)))
+                .cafeList(List.of(place("카페1", 0.01)))
+                // 가장 가까운 숙소(숙소6)는 상위 5개 밖이라 제외
+                .hotelList(List.of(place("숙소1", 0.20), place("숙소2", 0.05), place("숙소3", 0.011),
+                        place("숙소4", 0.30), place("숙소5", 0.40), place("숙소6", 0.01)))
+                .build();
+
+        List<GptScheduleDTO> schedules = builder.build(2, lists);
+
+        assertEquals("숙소3", schedules.stream().filter(s -> s.getTitle().equals("체크인")).findFirst()
+                .orElseThrow().getPlace());
+    }
+
+    @Test
+    void usesEachPlaceOnlyOnce() {
+        List<GptScheduleDTO> schedules = builder.build(4, places(30));
+
+        List<String> used = schedules.stream()
+                .filter(s -> !s.getTitle().startsWith("체크"))
+                .map(GptScheduleDTO::getPlace)
+                .toList();
+        assertEquals(used.size(), new HashSet<>(used).size(), "중복 장소 " + used);
+    }
+
+    @Test
+    void placesRestaurantNearPreviousSight() {
+        PlaceListsDTO lists = PlaceListsDTO.builder()
+                .attractionList(List.of(place("관광 동쪽", 0.10), place("관광 서쪽", 0.00)))
+                .restaurantList(List.of(place("식당 서쪽", 0.001), place("식당 동쪽", 0.101)))
+                .cafeList(List.of(place("카페 서쪽", 0.002), place("카페 동쪽", 0.102)))
+                .hotelList(List.of())
+                .build();
+
+        List<GptScheduleDTO> schedules = builder.build(1, lists);
+
+        // 첫 관광지(목록 첫 번째)에서 시작해 가까운 순서, 식당·카페는 직전 관광지 근처
+        assertEquals(List.of("관광 동쪽", "식당 동쪽", "관광 서쪽", "카페 서쪽", "식당 서쪽"),
+                schedules.stream().map(GptScheduleDTO::getPlace).toList());
+    }
+
+    @Test
+    void leavesSlotsEmptyWhenPlacesRunOut() {
+        PlaceListsDTO lists = PlaceListsDTO.builder()
+                .attractionList(List.of(place("관광1", 0.0)))
+                .restaurantList(List.of(place("식당1", 0.01)))
+                .cafeList(null)
+                .hotelList(null)
+                .build();
+
+        List<GptScheduleDTO> schedules = builder.build(2, lists);
+
+        assertEquals(List.of("점심", "관광"), titles(schedules));
+        assertTrue(builder.build(3, PlaceListsDTO.builder().build()).isEmpty());
+    }
+
+    @Test
+    void fillsOnlyMissingDaysWithUnusedPlaces() {
+        PlaceListsDTO lists = places(30);
+        // 4일 여행 GPT 응답이 2일차까지만 옴 (숙소는 GPT 가 고른 숙소0, 로컬 규칙이라면 숙소2)
+        List<GptScheduleDTO> existing = new ArrayList<>(builder.build(4, lists).stream()
+                .filter(s -> s.getDay() <= 2 && !s.getTitle().startsWith("체크"))
+                .toList());
+        existing.add(new GptScheduleDTO("숙소0", "체크인", "체크인", 1, 16.0, 16.5));
+
+        List<GptScheduleDTO> filled = builder.fillMissingDays(4, lists, existing);
+
+        assertEquals(Set.of(3, 4), filled.stream().map(GptScheduleDTO::getDay).collect(Collectors.toSet()));
+        assertEquals("아침", ofDay(filled, 3).get(0).getTitle());
+        assertEquals("숙소0", filled.stream().filter(s -> s.getTitle().equals("체크아웃")).findFirst()
+                .orElseThrow().getPlace());
+        Set<String> usedBefore = existing.stream().map(GptScheduleDTO::getPlace).collect(Collectors.toSet());
+        assertTrue(filled.stream().filter(s -> !s.getTitle().startsWith("체크"))
+                .noneMatch(s -> usedBefore.contains(s.getPlace())), "이미 쓴 장소 재사용 " + filled);
+    }
+
+    @Test
+    void fillsNothingWhenEveryDayIsCovered() {
+        List<GptScheduleDTO> existing = builder.build(3, places(20));
+
+        assertTrue(builder.fillMissingDays(3, places(20), existing).isEmpty());
+        assertEquals(3, builder.fillMissingDays(3, places(20), List.of()).stream()
+                .map(GptScheduleDTO::getDay).distinct().count());
+    }
+
+    // 관광지·식당·카페·숙소 n 개씩, 같은 위도선 위에 흩어 놓음
+    private static PlaceListsDTO places(int n) {
+        return PlaceListsDTO.builder()
+                .attractionList(series("관광", n, 0.0))
+                .restaurantList(series("식당", n, 0.003))
+                .cafeList(series("카페", n, 0.006))
+                .hotelList(series("숙소", 3, 0.009))
+                .build();
+    }
+
+    private static List<PlaceDTO> series(String prefix, int n, double offset) {
+        return IntStream.range(0, n).mapToObj(i -> place(prefix + i, offset + i * 0.01)).collect(Collectors.toList());
+    }
+
+    private static PlaceDTO place(String name, double lngOffset) {
+        return PlaceDTO.builder().name(name).placeId(name).rate(4.3).reviewCount(120)
+                .lat(37.75).lng(128.90 + lngOffset).build();
+    }
+
+    private static List<GptScheduleDTO> ofDay(List<GptScheduleDTO> schedules, int day) {
+        return schedules.stream()
+                .filter(s -> s.getDay() == day)
+                .sorted(Comparator.comparingDouble(GptScheduleDTO::getStartTime))
+                .toList();
+    }
+
+    private static List<String> titles(List<GptScheduleDTO> schedules) {
+        return schedules.stream().map(GptScheduleDTO::getTitle).toList();
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.apiPayload.code.status.ErrorStatus;
+import com.example.travel_project.apiPayload.exception.GeneralException;
+import com.example.travel_project.domain.gpt_place.data.enums.MapsEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MapsRateLimiterTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void letsBurstThroughThenPacesCalls() {
+        MapsRateLimiter limiter = limiter(20, 2, 64, 1_000);
+
+        long start = System.nanoTime();
+        limiter.call(MapsEndpoint.GEOCODE, () -> 1);
+        limiter.call(MapsEndpoint.GEOCODE, () -> 2);
+        assertTrue(elapsedMillis(start) < 40, "burst should not wait");
+
+        assertEquals(3, limiter.call(MapsEndpoint.GEOCODE, () -> 3));
+        assertTrue(elapsedMillis(start) >= 40, "third call waits for a token (50ms at 20/s)");
+    }
+
+    @Test
+    void limitsEachEndpointSeparately() {
+        MapsRateLimiter limiter = limiter(1, 1, 64, 0);
+
+        limiter.call(MapsEndpoint.GEOCODE, () -> 1);
+
+        assertEquals(2, limiter.call(MapsEndpoint.NEARBY_SEARCH, () -> 2));
+    }
+
+    @Test
+    void rejectsWhenTokenWaitExceedsMaxWait() {
+        MapsRateLimiter limiter = limiter(1, 1, 64, 50);
+        limiter.call(MapsEndpoint.GEOCODE, () -> 1);
+
+        GeneralException e = assertThrows(GeneralException.class, () -> limiter.call(MapsEndpoint.GEOCODE, () -> 2));
+
+        assertEquals(ErrorStatus.PLACE_API_BUSY, e.getCode());
+        assertEquals(1.0, rejected(MapsEndpoint.GEOCODE));
+    }
+
+    @Test
+    void cancelsInterruptedTokenWaitAndReturnsToken() throws Exception {
+        // 10/s, 최대 150ms 대기: 토큰 하나를 쓴 뒤 예약하면 약 100ms 대기
+        MapsRateLimiter limiter = limiter(10, 1, 64, 150);
+        limiter.call(MapsEndpoint.GEOCODE, () -> 1);
+
+        Future<Long> interrupted = executor.submit(() -> {
+            Thread.currentThread().interrupt();
+            long start = System.nanoTime();
+            assertThrows(CancellationException.class, () -> limiter.call(MapsEndpoint.GEOCODE, () -> 2));
+            assertTrue(Thread.currentThread().isInterrupted());
+            return elapsedMillis(start);
+        });
+        assertTrue(interrupted.get(5, TimeUnit.SECONDS) < 50, "should not wait for the token");
+        assertEquals(0.0, rejected(MapsEndpoint.GEOCODE));
+
+        // 예약했던 토큰을 돌려놓지 않았다면 다음 호출은 약 200ms 를 기다려야 해서 거절됨
+        assertEquals(3, limiter.call(MapsEndpoint.GEOCODE, () -> 3));
+    }
+
+    @Test
+    void rejectsWhenBulkheadIsFull() throws Exception {
+        MapsRateLimiter limiter = limiter(100, 100, 1, 50);
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Integer> running = executor.submit(() -> limiter.call(MapsEndpoint.NEARBY_SEARCH, () -> {
+            inside.countDown();
+            await(release);
+            return 1;
+        }));
+        assertTrue(inside.await(5, TimeUnit.SECONDS));
+
+        GeneralException e = assertThrows(GeneralException.class,
+                () -> limiter.call(MapsEndpoint.NEARBY_SEARCH, () -> 2));
+        assertEquals(ErrorStatus.PLACE_API_BUSY, e.getCode());
+
+        release.countDown();
+        assertEquals(1, running.get(5, TimeUnit.SECONDS));
+        assertEquals(3, limiter.call(MapsEndpoint.NEARBY_SEARCH, () -> 3));
+    }
+
+    @Test
+    void returnsTokenWhenBulkheadRejects() throws Exception {
+        // 1/s, burst 2: 토큰 두 개를 bulkhead 에 막힌 호출이 하나 써버리면 세 번째 호출은 약 1초를 기다려야 함
+        MapsRateLimiter limiter = limiter(1, 2, 1, 50);
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Integer> running = executor.submit(() -> limiter.call(MapsEndpoint.NEARBY_SEARCH, () -> {
+            inside.countDown();
+            await(release);
+            return 1;
+        }));
+        assertTrue(inside.await(5, TimeUnit.SECONDS));
+
+        assertThrows(GeneralException.class, () -> limiter.call(MapsEndpoint.NEARBY_SEARCH, () -> 2));
+        release.countDown();
+        assertEquals(1, running.get(5, TimeUnit.SECONDS));
+
+        assertEquals(3, limiter.call(MapsEndpoint.NEARBY_SEARCH, () -> 3));
+    }
+
+    @Test
+    void cancelsInterruptedBulkheadWaitWithoutCountingRejection() throws Exception {
+        MapsRateLimiter limiter = limiter(100, 100, 1, 5_000);
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> limiter.call(MapsEndpoint.NEARBY_SEARCH, () -> {
+            inside.countDown();
+            await(release);
+            return 1;
+        }));
+        assertTrue(inside.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Throwable> outcome = new CompletableFuture<>();
+        Future<?> waiting = executor.submit(() -> {
+            try {
+                limiter.call(MapsEndpoint.NEARBY_SEARCH, () -> 2);
+                outcome.complete(null);
+            } catch (RuntimeException e) {
+                outcome.complete(e);
+            }
+        });
+        Thread.sleep(50);
+        waiting.cancel(true);
+
+        assertInstanceOf(CancellationException.class, outcome.get(5, TimeUnit.SECONDS));
+        assertEquals(0.0, rejected(MapsEndpoint.NEARBY_SEARCH));
+        release.countDown();
+    }
+
+    private MapsRateLimiter limiter(double perSecond, int burst, int maxInFlight, long maxWaitMs) {
+        MockEnvironment env = new MockEnvironment()
+                .withProperty("google.maps.limiter.max-in-flight", String.valueOf(maxInFlight))
+                .withProperty("google.maps.limiter.max-wait-ms", String.valueOf(maxWaitMs));
+        for (MapsEndpoint endpoint : MapsEndpoint.values()) {
+            env.setProperty("google.maps.limiter." + endpoint.getKey() + ".per-second", String.valueOf(perSecond));
+            env.setProperty("google.maps.limiter." + endpoint.getKey() + ".burst", String.valueOf(burst));
+        }
+        return new MapsRateLimiter(registry, env);
+    }
+
+    private double rejected(MapsEndpoint endpoint) {
+        return registry.counter("places.maps.rejected", "endpoint", endpoint.getKey()).count();
+    }
+
+    private static long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NearbySearchCacheTest {
+
+    private static final double LAT = 37.7519;
+    private static final double LNG = 128.8761;
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    // 검색 좌표에서 북쪽으로 100m / 300m / 800m / 1500m 떨어진 장소 (점수순)
+    private final PlaceDTO p100 = place("p100", 100);
+    private final PlaceDTO p800 = place("p800", 800);
+    private final PlaceDTO p300 = place("p300", 300);
+    private final PlaceDTO p1500 = place("p1500", 1500);
+    private final List<PlaceDTO> ranked = List.of(p100, p800, p300, p1500);
+
+    @Test
+    void returnsHeadOfSameRadiusResult() {
+        NearbySearchCache cache = cache(50_000);
+        cache.put(LAT, LNG, "cafe", 2000, 4, ranked);
+
+        assertEquals(Optional.of(List.of(p100, p800)), cache.find(LAT, LNG, "cafe", 2000, 2));
+        assertEquals(Optional.of(ranked), cache.find(LAT, LNG, "cafe", 2000, 4));
+        assertEquals(2.0, registry.counter("places.nearby.cache", "result", "hit").count());
+    }
+
+    @Test
+    void missesWhenLimitOrRadiusIsLarger() {
+        NearbySearchCache cache = cache(50_000);
+        cache.put(LAT, LNG, "cafe", 2000, 4, ranked);
+
+        assertTrue(cache.find(LAT, LNG, "cafe", 2000, 5).isEmpty());
+        assertTrue(cache.find(LAT, LNG, "cafe", 3000, 4).isEmpty());
+        assertTrue(cache.find(LAT, LNG, "restaurant", 2000, 4).isEmpty());
+        assertEquals(3.0, registry.counter("places.nearby.cache", "result", "miss").count());
+    }
+
+    @Test
+    void reusesLargerRadiusResultWithinRequestedRadius() {
+        NearbySearchCache cache = cache(50_000);
+        cache.put(LAT, LNG, "cafe", 2000, 4, ranked);
+
+        // 500m 안의 장소만 점수순으로
+        assertEquals(Optional.of(List.of(p100, p300)), cache.find(LAT, LNG, "cafe", 500, 2));
+        assertEquals(1.0, registry.counter("places.nearby.cache", "result", "superset-hit").count());
+
+        // 500m 안에는 두 곳뿐이라 limit 3 은 채울 수 없음
+        assertTrue(cache.find(LAT, LNG, "cafe", 500, 3).isEmpty());
+    }
+
+    @Test
+    void replacesDominatedEntries() {
+        NearbySearchCache cache = cache(50_000);
+        cache.put(LAT, LNG, "cafe", 500, 2, List.of(p100, p300));
+        cache.put(LAT, LNG, "cafe", 2000, 4, ranked);
+
+        assertEquals(4, cache.totalPlaces());
+    }
+
+    @Test
+    void dropsExpiredEntries() {
+        NearbySearchCache cache = new NearbySearchCache(registry, 6, 0, 50_000);
+        cache.put(LAT, LNG, "cafe", 2000, 4, ranked);
+
+        assertTrue(cache.find(LAT, LNG, "cafe", 2000, 4).isEmpty());
+        assertEquals(0, cache.totalPlaces());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedCellOverCapacity() {
+        NearbySearchCache cache = cache(5);
+        cache.put(LAT, LNG, "cafe", 2000, 4, ranked);
+        cache.put(35.1796, 129.0756, "cafe", 2000, 2, List.of(place("busan1", 0), place("busan2", 0)));
+
+        assertTrue(cache.find(LAT, LNG, "cafe", 2000, 4).isEmpty());
+        assertTrue(cache.find(35.1796, 129.0756, "cafe", 2000, 2).isPresent());
+        assertEquals(2, cache.totalPlaces());
+        assertEquals(1.0, registry.counter("places.nearby.cache.evictions").count());
+    }
+
+    private NearbySearchCache cache(int maxPlaces) {
+        return new NearbySearchCache(registry, 6, 720, maxPlaces);
+    }
+
+    // 위도 1도 ≈ 111,195m
+    private static PlaceDTO place(String id, double northMeters) {
+        return PlaceDTO.builder().placeId(id).name(id).lat(LAT + northMeters / 111_195.0).lng(LNG).build();
+    }
+}
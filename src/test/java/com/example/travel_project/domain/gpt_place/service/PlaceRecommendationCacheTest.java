@@ -0,0 +1,92 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.domain.gpt_place.data.enums.GenerationMode;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceRecommendationDTO;
+import com.example.travel_project.domain.plan.web.dto.PlanRequestDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaceRecommendationCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void keepsGenerationModesApart() {
+        PlaceRecommendationCache cache = cache("");
+        cache.put(GenerationMode.PIPELINED, request("강릉"), 3, recommendation("경포대", "짧은 설명"));
+
+        assertTrue(cache.get(GenerationMode.STRUCTURED, request("강릉"), 3).isEmpty());
+        assertTrue(cache.get(GenerationMode.LEGACY, request("강릉"), 3).isEmpty());
+        assertEquals(List.of("경포대"), cache.get(GenerationMode.PIPELINED, request("강릉"), 3)
+                .orElseThrow().getPlaceNames());
+    }
+
+    @Test
+    void matchesNormalizedRequestWithSameTripLength() {
+        PlaceRecommendationCache cache = cache("");
+        cache.put(GenerationMode.STRUCTURED, request("강릉"), 3, recommendation("경포대", "해변"));
+
+        PlanRequestDTO later = request("  강릉 ");
+        later.setStartDate(later.getStartDate().plusDays(7));
+        later.setEndDate(later.getEndDate().plusDays(7));
+
+        assertTrue(cache.get(GenerationMode.STRUCTURED, later, 3).isPresent());
+        assertTrue(cache.get(GenerationMode.STRUCTURED, later, 4).isEmpty());
+    }
+
+    @Test
+    void skipsEmptyRecommendation() {
+        PlaceRecommendationCache cache = cache("");
+        cache.put(GenerationMode.LEGACY, request("강릉"), 3,
+                PlaceRecommendationDTO.builder().placeNames(List.of()).placeDescriptions(Map.of()).build());
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void savesAndLoadsFile() throws Exception {
+        Path file = Files.createTempDirectory("recommendations").resolve("cache.json");
+        PlaceRecommendationCache first = cache(file.toString());
+        first.put(GenerationMode.PIPELINED, request("강릉"), 3, recommendation("경포대", "해변"));
+        first.flush();
+
+        PlaceRecommendationCache second = cache(file.toString());
+        second.load();
+
+        assertEquals(1, second.size());
+        assertEquals("해변", second.get(GenerationMode.PIPELINED, request("강릉"), 3)
+                .orElseThrow().getPlaceDescriptions().get("경포대"));
+    }
+
+    private PlaceRecommendationCache cache(String file) {
+        return new PlaceRecommendationCache(objectMapper, new SimpleMeterRegistry(), 100, 60, 1, file);
+    }
+
+    private static PlanRequestDTO request(String region) {
+        OffsetDateTime start = OffsetDateTime.parse("2026-11-01T00:00:00+09:00");
+        return PlanRequestDTO.builder()
+                .region(region)
+                .startDate(start)
+                .endDate(start.plusDays(2))
+                .people("2")
+                .companions("친구")
+                .theme("바다")
+                .build();
+    }
+
+    private static PlaceRecommendationDTO recommendation(String name, String description) {
+        return PlaceRecommendationDTO.builder()
+                .placeNames(List.of(name))
+                .placeDescriptions(Map.of(name, description))
+                .build();
+    }
+}
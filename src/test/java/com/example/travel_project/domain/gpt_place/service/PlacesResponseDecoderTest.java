@@ -0,0 +1,149 @@
+package com.example.travel_project.domain.gpt_place.service;
+
+import com.example.travel_project.apiPayload.code.status.ErrorStatus;
+import com.example.travel_project.apiPayload.exception.GeneralException;
+import com.example.travel_project.domain.gpt_place.web.dto.GeocodeDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceDTO;
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceSearchPageDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlacesResponseDecoderTest {
+
+    private final PlacesResponseDecoder decoder = new PlacesResponseDecoder(new ObjectMapper());
+
+    private static final String SEARCH_PAGE = """
+            {
+              "html_attributions": [],
+              "next_page_token": "token-2",
+              "results": [
+                {
+                  "business_status": "OPERATIONAL",
+                  "geometry": {"location": {"lat": 37.7519, "lng": 128.8761}, "viewport": {"northeast": {"lat": 38, "lng": 129}}},
+                  "name": "경포대",
+                  "opening_hours": {"open_now": true},
+                  "photos": [{"height": 10, "photo_reference": "photo-1", "html_attributions": ["a"]}, {"photo_reference": "photo-2"}],
+                  "place_id": "place-1",
+                  "plus_code": {"compound_code": "x"},
+                  "rating": 4.5,
+                  "types": ["tourist_attraction", "point_of_interest", {"ignored": true}],
+                  "user_ratings_total": 99,
+                  "vicinity": "강릉시 경포로"
+                },
+                {
+                  "name": "사진 없는 곳",
+                  "place_id": "place-2",
+                  "rating": null,
+                  "photos": []
+                }
+              ],
+              "status": "OK"
+            }
+            """;
+
+    @Test
+    void decodesSearchPageFields() throws Exception {
+        PlaceSearchPageDTO page = decoder.decodeSearchPage(json(SEARCH_PAGE), place -> true);
+
+        assertEquals("OK", page.getStatus());
+        assertEquals("token-2", page.getNextPageToken());
+        assertEquals(2, page.getPlaces().size());
+
+        PlaceDTO first = page.getPlaces().get(0);
+        assertEquals("경포대", first.getName());
+        assertEquals("강릉시 경포로", first.getAddress());
+        assertEquals("place-1", first.getPlaceId());
+        assertEquals(4.5, first.getRate());
+        assertEquals(99, first.getReviewCount());
+        assertEquals(4.5 * Math.log(100), first.getScore(), 1e-9);
+        assertEquals(37.7519, first.getLat());
+        assertEquals(128.8761, first.getLng());
+        assertEquals(List.of("tourist_attraction", "point_of_interest"), first.getTypes());
+        assertEquals("photo-1", first.getPhotoReference());
+
+        PlaceDTO second = page.getPlaces().get(1);
+        assertEquals(0.0, second.getRate());
+        assertEquals(0, second.getReviewCount());
+        assertEquals("", second.getPhotoReference());
+        assertEquals("", second.getAddress());
+    }
+
+    @Test
+    void keepsOnlyPlacesPassingFilter() throws Exception {
+        PlaceSearchPageDTO page = decoder.decodeSearchPage(json(SEARCH_PAGE), place -> place.getReviewCount() > 0);
+
+        assertEquals(List.of("place-1"), page.getPlaces().stream().map(PlaceDTO::getPlaceId).toList());
+    }
+
+    @Test
+    void returnsStatusOfErrorPage() throws Exception {
+        PlaceSearchPageDTO page = decoder.decodeSearchPage(
+                json("{\"error_message\": \"denied\", \"results\": [], \"status\": \"REQUEST_DENIED\"}"), place -> true);
+
+        assertEquals("REQUEST_DENIED", page.getStatus());
+        assertTrue(page.getPlaces().isEmpty());
+        assertFalse(PlacesResponseDecoder.isSuccess(page.getStatus()));
+    }
+
+    @Test
+    void returnsEmptyPageForNonObjectBody() throws Exception {
+        PlaceSearchPageDTO page = decoder.decodeSearchPage(json("[]"), place -> true);
+
+        assertNull(page.getStatus());
+        assertTrue(page.getPlaces().isEmpty());
+    }
+
+    @Test
+    void decodesFirstGeocodeResult() throws Exception {
+        Optional<GeocodeDTO> result = decoder.decodeGeocode(json("""
+                {"results": [
+                  {"address_components": [{"long_name": "강릉시"}], "formatted_address": "대한민국 강원특별자치도 강릉시",
+                   "geometry": {"location": {"lat": 37.75, "lng": 128.87}, "location_type": "APPROXIMATE"}},
+                  {"formatted_address": "두 번째", "geometry": {"location": {"lat": 1, "lng": 2}}}
+                 ], "status": "OK"}
+                """));
+
+        assertTrue(result.isPresent());
+        assertEquals("대한민국 강원특별자치도 강릉시", result.get().getFormattedAddress());
+        assertEquals(37.75, result.get().getLat());
+        assertEquals(128.87, result.get().getLng());
+    }
+
+    @Test
+    void returnsEmptyForZeroResults() throws Exception {
+        assertTrue(decoder.decodeGeocode(json("{\"results\": [], \"status\": \"ZERO_RESULTS\"}")).isEmpty());
+        // status 가 results 앞에 와도 같음
+        assertTrue(decoder.decodeGeocode(json("{\"status\": \"ZERO_RESULTS\", \"results\": []}")).isEmpty());
+    }
+
+    @Test
+    void failsOnGeocodeErrorStatus() {
+        for (String status : List.of("OVER_QUERY_LIMIT", "REQUEST_DENIED", "UNKNOWN_ERROR")) {
+            GeneralException e = assertThrows(GeneralException.class, () -> decoder.decodeGeocode(
+                    json("{\"error_message\": \"x\", \"results\": [], \"status\": \"" + status + "\"}")));
+            assertEquals(ErrorStatus.PLACE_API_ERROR, e.getCode());
+        }
+        assertThrows(GeneralException.class, () -> decoder.decodeGeocode(json("{\"results\": []}")));
+        assertThrows(GeneralException.class, () -> decoder.decodeGeocode(json("[]")));
+    }
+
+    @Test
+    void treatsOkAndZeroResultsAsSuccess() {
+        assertTrue(PlacesResponseDecoder.isSuccess("OK"));
+        assertTrue(PlacesResponseDecoder.isSuccess("ZERO_RESULTS"));
+        assertFalse(PlacesResponseDecoder.isSuccess("INVALID_REQUEST"));
+        assertFalse(PlacesResponseDecoder.isSuccess(null));
+    }
+
+    private static InputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
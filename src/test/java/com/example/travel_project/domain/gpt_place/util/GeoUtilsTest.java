@@ -0,0 +1,54 @@
+package com.example.travel_project.domain.gpt_place.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoUtilsTest {
+
+    @Test
+    void encodesKnownGeohash() {
+        assertEquals("u4pruydqqvj", GeoUtils.geohash(57.64911, 10.40744, 11));
+        assertEquals("wydm9q", GeoUtils.geohash(37.5665, 126.9780, 6));
+    }
+
+    @Test
+    void nearbyPointsShareCellPrefix() {
+        String a = GeoUtils.geohash(37.7519, 128.8761, 6);
+        String b = GeoUtils.geohash(37.7520, 128.8762, 6);
+
+        assertEquals(a, b);
+        assertEquals(a.substring(0, 5), GeoUtils.geohash(37.7519, 128.8761, 5));
+    }
+
+    @Test
+    void boundsContainEncodedPoint() {
+        Random random = new Random(42);
+        for (int i = 0; i < 1_000; i++) {
+            double lat = random.nextDouble() * 180 - 90;
+            double lng = random.nextDouble() * 360 - 180;
+            int precision = 1 + random.nextInt(9);
+
+            double[] bounds = GeoUtils.geohashBounds(GeoUtils.geohash(lat, lng, precision));
+
+            assertTrue(bounds[0] <= lat && lat <= bounds[2], "lat " + lat);
+            assertTrue(bounds[1] <= lng && lng <= bounds[3], "lng " + lng);
+        }
+    }
+
+    @Test
+    void rejectsInvalidGeohash() {
+        assertThrows(IllegalArgumentException.class, () -> GeoUtils.geohashBounds("wydma"));
+    }
+
+    @Test
+    void measuresGreatCircleDistance() {
+        // 위도 1도 ≈ 111.2km
+        assertEquals(111_195, GeoUtils.haversineMeters(37, 127, 38, 127), 1);
+        assertEquals(0, GeoUtils.haversineMeters(37.5, 127, 37.5, 127), 1e-9);
+        // 서울시청 → 부산시청 약 325km
+        assertEquals(325_000, GeoUtils.haversineMeters(37.5665, 126.9780, 35.1796, 129.0756), 5_000);
+    }
+}
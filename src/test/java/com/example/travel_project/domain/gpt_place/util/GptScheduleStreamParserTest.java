@@ -0,0 +1,155 @@
+package com.example.travel_project.domain.gpt_place.util;
+
+import com.example.travel_project.domain.gpt_place.web.dto.GptScheduleDTO;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GptScheduleStreamParserTest {
+
+    // 스프링 부트 기본 ObjectMapper 와 같이 모르는 필드는 무시
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final String FIRST =
+            "{\"place\":\"경포대\",\"title\":\"오전\",\"content\":\"해변 산책\",\"day\":1,\"startTime\":9,\"endTime\":10.5}";
+    private static final String SECOND =
+            "{\"place\":\"초당순두부\",\"title\":\"점심\",\"content\":\"순두부\",\"day\":1,\"startTime\":12,\"endTime\":13}";
+
+    @Test
+    void parsesSchedulesWrappedInObjectAndMarkdown() {
+        String content = "다음은 일정입니다.\n```json\n{\"schedules\": [" + FIRST + ", " + SECOND + "]}\n```\n즐거운 여행 되세요!";
+
+        GptScheduleStreamParser parser = GptScheduleStreamParser.parse(objectMapper, content);
+
+        assertTrue(parser.isComplete());
+        assertEquals(2, parser.getSchedules().size());
+        assertEquals("경포대", parser.getSchedules().get(0).getPlace());
+        assertEquals(10.5, parser.getSchedules().get(0).getEndTime());
+        assertEquals("초당순두부", parser.getSchedules().get(1).getPlace());
+        assertEquals(0, parser.getDroppedCount());
+        assertEquals(0, parser.getRepairedCount());
+    }
+
+    @Test
+    void parsesBareArray() {
+        GptScheduleStreamParser parser = GptScheduleStreamParser.parse(objectMapper, "[" + FIRST + "," + SECOND + "]");
+
+        assertEquals(2, parser.getSchedules().size());
+        assertEquals(0, parser.getDroppedCount());
+    }
+
+    @Test
+    void ignoresArraysBeforeSchedulesKey() {
+        String content = "{\"notes\": [\"a\", {\"place\":\"무시\"}], \"schedules\": [" + FIRST + "]}";
+
+        GptScheduleStreamParser parser = GptScheduleStreamParser.parse(objectMapper, content);
+
+        assertEquals(1, parser.getSchedules().size());
+        assertEquals("경포대", parser.getSchedules().get(0).getPlace());
+    }
+
+    @Test
+    void keepsBracesAndEscapedQuotesInsideStrings() {
+        String item = "{\"place\":\"카페 {본점}\",\"title\":\"카페\",\"content\":\"\\\"바다\\\" 전망 ]}\",\"day\":2,\"startTime\":15,\"endTime\":16}";
+
+        GptScheduleStreamParser parser = GptScheduleStreamParser.parse(objectMapper, "{\"schedules\":[" + item + "]}");
+
+        assertEquals(1, parser.getSchedules().size());
+        assertEquals("카페 {본점}", parser.getSchedules().get(0).getPlace());
+        assertEquals("\"바다\" 전망 ]}", parser.getSchedules().get(0).getContent());
+    }
+
+    @Test
+    void emitsEachScheduleAsSoonAsItCloses() {
+        String content = "{\"schedules\": [" + FIRST + ", " + SECOND + "]}";
+        List<GptScheduleDTO> emitted = new ArrayList<>();
+        GptScheduleStreamParser parser = new GptScheduleStreamParser(objectMapper, emitted::add);
+
+        int firstEnd = content.indexOf(FIRST) + FIRST.length();
+        for (int i = 0; i < content.length(); i += 3) {
+            int end = Math.min(content.length(), i + 3);
+            parser.feed(content.substring(i, end));
+            if (end < firstEnd) assertTrue(emitted.isEmpty());
+            if (end >= firstEnd && end < content.indexOf(SECOND)) assertEquals(1, emitted.size());
+        }
+        parser.finish();
+
+        assertEquals(2, emitted.size());
+        assertEquals(parser.getSchedules(), emitted);
+    }
+
+    @Test
+    void skipsUnreadableItems() {
+        String content = "{\"schedules\": [" + FIRST + ", {\"day\": \"둘째 날\"}, " + SECOND + "]}";
+
+        GptScheduleStreamParser parser = GptScheduleStreamParser.parse(objectMapper, content);
+
+        assertEquals(2, parser.getSchedules().size());
+        assertEquals(1, parser.getDroppedCount());
+    }
+
+    @Test
+    void repairsItemCutInsideString() {
+        String content = "{\"schedules\": [" + FIRST + ", "
+                + "{\"place\":\"안목해변\",\"title\":\"카페\",\"day\":1,\"startTime\":15,\"endTime\":16,\"content\":\"커피 거리에서";
+
+        GptScheduleStreamParser parser = GptScheduleStreamParser.parse(objectMapper, content);
+
+        assertEquals(2, parser.getSchedules().size());
+        assertEquals("안목해변", parser.getSchedules().get(1).getPlace());
+        assertEquals("커피 거리에서", parser.getSchedules().get(1).getContent());
+        assertEquals(1, parser.getRepairedCount());
+        assertEquals(0, parser.getDroppedCount());
+    }
+
+    @Test
+    void repairsItemCutAfterKeyOrComma() {
+        String item = "{\"place\":\"안목해변\",\"title\":\"카페\",\"day\":1,\"startTime\":15,\"endTime\":16";
+
+        for (String tail : List.of(",", ", \"content\"", ", \"content\":", ", \"content\": \"커피\", \"tags\": [\"바다\",")) {
+            GptScheduleStreamParser parser = GptScheduleStreamParser.parse(objectMapper, "[" + item + tail);
+
+            assertEquals(1, parser.getSchedules().size(), tail);
+            assertEquals(1, parser.getRepairedCount(), tail);
+        }
+    }
+
+    @Test
+    void dropsRepairedItemWithCutTime() {
+        // endTime 값이 "1" 에서 잘렸을 수 있으므로 키와 함께 지우고, 시간이 온전하지 않으니 버림
+        String content = "[" + FIRST + ", {\"place\":\"안목해변\",\"title\":\"카페\",\"day\":1,\"startTime\":15,\"endTime\":1";
+
+        GptScheduleStreamParser parser = GptScheduleStreamParser.parse(objectMapper, content);
+
+        assertEquals(1, parser.getSchedules().size());
+        assertEquals(0, parser.getRepairedCount());
+        assertEquals(1, parser.getDroppedCount());
+    }
+
+    @Test
+    void returnsNothingForTextWithoutJson() {
+        GptScheduleStreamParser parser = GptScheduleStreamParser.parse(objectMapper, "일정을 만들 수 없습니다.");
+
+        assertTrue(parser.getSchedules().isEmpty());
+        assertEquals(0, parser.getDroppedCount());
+    }
+
+    @Test
+    void ignoresInputAfterArrayEnds() {
+        List<GptScheduleDTO> emitted = new ArrayList<>();
+        GptScheduleStreamParser parser = new GptScheduleStreamParser(objectMapper, emitted::add);
+
+        parser.feed("[" + FIRST + "]");
+        parser.feed("[" + SECOND + "]");
+        parser.finish();
+
+        assertTrue(parser.isComplete());
+        assertEquals(1, emitted.size());
+    }
+}
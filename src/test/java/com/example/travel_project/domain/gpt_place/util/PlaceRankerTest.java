@@ -0,0 +1,78 @@
+package com.example.travel_project.domain.gpt_place.util;
+
+import com.example.travel_project.domain.gpt_place.web.dto.PlaceDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaceRankerTest {
+
+    @Test
+    void matchesFullSortOnRandomInput() {
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            List<PlaceDTO> places = new ArrayList<>();
+            int n = random.nextInt(60);
+            for (int i = 0; i < n; i++) {
+                // 평점·리뷰 수 범위를 좁혀서 같은 점수가 자주 나오게 함
+                places.add(place("p" + random.nextInt(1000), 3 + random.nextInt(3), random.nextInt(4)));
+            }
+            int k = 1 + random.nextInt(8);
+
+            List<PlaceDTO> expected = places.stream()
+                    .sorted(Comparator.comparingDouble((PlaceDTO p) -> PlaceScorer.popularity().score(p)).reversed()
+                            .thenComparing(PlaceDTO::getPlaceId))
+                    .limit(k)
+                    .toList();
+
+            assertEquals(ids(expected), ids(PlaceRanker.topK(places, k, PlaceScorer.popularity())));
+        }
+    }
+
+    @Test
+    void breaksTiesByPlaceId() {
+        List<PlaceDTO> places = List.of(place("c", 4, 10), place("a", 4, 10), place("b", 4, 10), place(null, 4, 10));
+
+        assertEquals(List.of("a", "b"), ids(PlaceRanker.topK(places, 2, PlaceScorer.popularity())));
+        assertEquals(List.of("a", "b", "c"), ids(PlaceRanker.topK(places, 3, PlaceScorer.popularity())));
+    }
+
+    @Test
+    void handlesSmallAndNonPositiveK() {
+        List<PlaceDTO> places = List.of(place("a", 5, 10), place("b", 4, 10));
+
+        assertTrue(PlaceRanker.topK(places, 0, PlaceScorer.popularity()).isEmpty());
+        assertTrue(PlaceRanker.topK(places, -1, PlaceScorer.popularity()).isEmpty());
+        assertEquals(List.of("a", "b"), ids(PlaceRanker.topK(places, 5, PlaceScorer.popularity())));
+        assertTrue(PlaceRanker.topK(List.of(), 3, PlaceScorer.popularity()).isEmpty());
+    }
+
+    @Test
+    void distanceWeightedScorerPrefersCloserPlace() {
+        PlaceDTO near = place("near", 4.0, 100);
+        PlaceDTO far = place("far", 4.5, 100);
+        far.setLat(37.0 + 5_000 / 111_195.0);
+        near.setLat(37.0);
+
+        PlaceScorer scorer = PlaceScorer.distanceWeighted(37.0, 127.0, 1_000);
+
+        assertEquals(List.of("near", "far"), ids(PlaceRanker.topK(List.of(far, near), 2, scorer)));
+        assertEquals(List.of("far", "near"), ids(PlaceRanker.topK(List.of(far, near), 2, PlaceScorer.popularity())));
+        // halfScoreMeters 만큼 떨어지면 기본 점수의 절반
+        far.setLat(37.0 + 1_000 / 111_195.0);
+        assertEquals(PlaceScorer.popularity().score(far) / 2, scorer.score(far), 1e-3);
+    }
+
+    private static PlaceDTO place(String id, double rate, int reviews) {
+        return PlaceDTO.builder().placeId(id).name(id).rate(rate).reviewCount(reviews).lat(37.0).lng(127.0).build();
+    }
+
+    private static List<String> ids(List<PlaceDTO> places) {
+        return places.stream().map(PlaceDTO::getPlaceId).toList();
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.travel_project.domain.gpt_place.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> flight = new SingleFlight<>(registry, "test");
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void sharesOneCallBetweenConcurrentCallers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(executor.submit(() -> flight.execute("강릉", () -> {
+                loads.incrementAndGet();
+                await(release);
+                return "result";
+            })));
+        }
+        waitUntil(() -> shared() == 4);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("result", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1.0, leaders());
+        assertEquals(0, flight.inFlight());
+    }
+
+    @Test
+    void doesNotKeepFinishedResults() {
+        AtomicInteger loads = new AtomicInteger();
+
+        flight.execute("강릉", () -> "v" + loads.incrementAndGet());
+        String second = flight.execute("강릉", () -> "v" + loads.incrementAndGet());
+
+        assertEquals("v2", second);
+        assertEquals(2.0, leaders());
+        assertEquals(0, flight.inFlight());
+    }
+
+    @Test
+    void propagatesLeaderFailureToWaiters() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> flight.execute("강릉", () -> {
+            await(release);
+            throw new IllegalStateException("OVER_QUERY_LIMIT");
+        }));
+        waitUntil(() -> flight.inFlight() == 1);
+        Future<String> waiter = executor.submit(() -> flight.execute("강릉", () -> "unused"));
+        waitUntil(() -> shared() == 1);
+        release.countDown();
+
+        for (Future<String> f : List.of(leader, waiter)) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> f.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+        }
+    }
+
+    @Test
+    void retriesWhenLeaderIsInterrupted() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> flight.execute("강릉", () -> {
+            await(release);
+            Thread.currentThread().interrupt();   // 취소된 요청의 (불완전할 수 있는) 결과
+            return "partial";
+        }));
+        waitUntil(() -> flight.inFlight() == 1);
+        Future<String> waiter = executor.submit(() -> flight.execute("강릉", () -> "complete"));
+        waitUntil(() -> shared() == 1);
+        release.countDown();
+
+        assertEquals("partial", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("complete", waiter.get(5, TimeUnit.SECONDS));
+        assertEquals(2.0, leaders());
+        assertEquals(1.0, shared());
+        assertEquals(0, flight.inFlight());
+    }
+
+    @Test
+    void waiterSeesNoFinishedEntryAfterLeaderFails() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> flight.execute("강릉", () -> {
+            await(release);
+            throw new IllegalStateException("OVER_QUERY_LIMIT");
+        }));
+        waitUntil(() -> flight.inFlight() == 1);
+        // 실패를 받은 호출이 바로 다시 부르면 끝난 호출을 공유하지 않고 새로 실행함
+        Future<String> waiter = executor.submit(() -> {
+            try {
+                return flight.execute("강릉", () -> "unused");
+            } catch (IllegalStateException e) {
+                return flight.execute("강릉", () -> "retried");
+            }
+        });
+        waitUntil(() -> shared() == 1);
+        release.countDown();
+
+        assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertEquals("retried", waiter.get(5, TimeUnit.SECONDS));
+        assertEquals(2.0, leaders());
+        assertEquals(1.0, shared());
+    }
+
+    private double leaders() {
+        return registry.counter("places.singleflight.calls", "name", "test", "role", "leader").count();
+    }
+
+    private double shared() {
+        return registry.counter("places.singleflight.calls", "name", "test", "role", "shared").count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitUntil(Callable<Boolean> condition) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.call()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.travel_project.domain.plan.service;
+
+import com.example.travel_project.apiPayload.code.status.ErrorStatus;
+import com.example.travel_project.apiPayload.exception.GeneralException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyStoreTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final IdempotencyStore store = new IdempotencyStore(registry, 60, 1_000, 100);
+    private final AtomicInteger runs = new AtomicInteger();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void replaysFirstResultForSameKey() throws Exception {
+        IdempotencyStore.Result<String> first = store.execute("plans", "a@b.c", "key-1", "req", this::run);
+        IdempotencyStore.Result<String> second = store.execute("plans", "a@b.c", "key-1", "req", this::run);
+
+        assertEquals(new IdempotencyStore.Result<>("run-1", false), first);
+        assertEquals(new IdempotencyStore.Result<>("run-1", true), second);
+        assertEquals(1, runs.get());
+        assertEquals(1.0, count("plans", "replayed"));
+    }
+
+    @Test
+    void runsEveryTimeWithoutKey() throws Exception {
+        store.execute("plans", "a@b.c", null, "req", this::run);
+        IdempotencyStore.Result<String> second = store.execute("plans", "a@b.c", " ", "req", this::run);
+
+        assertEquals(new IdempotencyStore.Result<>("run-2", false), second);
+    }
+
+    @Test
+    void separatesOwnersAndScopes() throws Exception {
+        store.execute("plans", "a@b.c", "key-1", "req", this::run);
+        store.execute("plans", "other@b.c", "key-1", "req", this::run);
+        store.execute("places", "a@b.c", "key-1", "req", this::run);
+
+        assertEquals(3, runs.get());
+    }
+
+    @Test
+    void rejectsKeyReusedForDifferentRequest() throws Exception {
+        store.execute("plans", "a@b.c", "key-1", "req", this::run);
+
+        GeneralException e = assertThrows(GeneralException.class,
+                () -> store.execute("plans", "a@b.c", "key-1", "other req", this::run));
+        assertEquals(ErrorStatus.IDEMPOTENCY_KEY_REUSED, e.getCode());
+    }
+
+    @Test
+    void rejectsTooLongKey() {
+        GeneralException e = assertThrows(GeneralException.class,
+                () -> store.execute("plans", "a@b.c", "k".repeat(256), "req", this::run));
+        assertEquals(ErrorStatus._BAD_REQUEST, e.getCode());
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void releasesKeyWhenFirstRunFails() throws Exception {
+        assertThrows(IllegalStateException.class, () -> store.execute("plans", "a@b.c", "key-1", "req", () -> {
+            throw new IllegalStateException("firestore down");
+        }));
+
+        IdempotencyStore.Result<String> retry = store.execute("plans", "a@b.c", "key-1", "req", this::run);
+        assertFalse(retry.replayed());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void releasesKeyWhenAsyncWorkFailsLater() throws Exception {
+        AtomicReference<Runnable> release = new AtomicReference<>();
+        IdempotencyStore.Result<String> submitted = store.execute("places", "a@b.c", "key-1", "req", r -> {
+            release.set(r);
+            return "job-1";
+        });
+        assertTrue(store.execute("places", "a@b.c", "key-1", "req", this::run).replayed());
+
+        release.get().run();   // 작업이 FAILED 로 끝남
+
+        IdempotencyStore.Result<String> retry = store.execute("places", "a@b.c", "key-1", "req", this::run);
+        assertEquals("job-1", submitted.value());
+        assertEquals(new IdempotencyStore.Result<>("run-1", false), retry);
+        assertEquals(1.0, count("places", "released"));
+    }
+
+    @Test
+    void staleReleaseDoesNotDropNewerEntry() throws Exception {
+        AtomicReference<Runnable> release = new AtomicReference<>();
+        store.execute("places", "a@b.c", "key-1", "req", r -> {
+            release.set(r);
+            return "job-1";
+        });
+        release.get().run();
+        store.execute("places", "a@b.c", "key-1", "req", this::run);
+
+        release.get().run();   // 두 번째 호출은 새 항목을 건드리지 않음
+
+        assertTrue(store.execute("places", "a@b.c", "key-1", "req", this::run).replayed());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void joinsRequestInProgress() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<IdempotencyStore.Result<String>> first = executor.submit(() ->
+                store.execute("plans", "a@b.c", "key-1", "req", () -> {
+                    started.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return run();
+                }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<IdempotencyStore.Result<String>> second = executor.submit(() ->
+                store.execute("plans", "a@b.c", "key-1", "req", this::run));
+
+        Thread.sleep(50);
+        release.countDown();
+
+        assertEquals(new IdempotencyStore.Result<>("run-1", false), first.get(5, TimeUnit.SECONDS));
+        assertEquals(new IdempotencyStore.Result<>("run-1", true), second.get(5, TimeUnit.SECONDS));
+        assertEquals(1.0, count("plans", "joined"));
+    }
+
+    @Test
+    void failsWhenRequestInProgressTakesLongerThanWait() throws Exception {
+        IdempotencyStore impatient = new IdempotencyStore(registry, 60, 50, 100);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> impatient.execute("plans", "a@b.c", "key-1", "req", () -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "slow";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        GeneralException e = assertThrows(GeneralException.class,
+                () -> impatient.execute("plans", "a@b.c", "key-1", "req", this::run));
+        assertEquals(ErrorStatus.IDEMPOTENCY_KEY_IN_PROGRESS, e.getCode());
+        release.countDown();
+    }
+
+    @Test
+    void expiresEntriesAfterTtl() throws Exception {
+        IdempotencyStore shortLived = new IdempotencyStore(registry, 0, 1_000, 100);
+        shortLived.execute("plans", "a@b.c", "key-1", "req", this::run);
+
+        assertFalse(shortLived.execute("plans", "a@b.c", "key-1", "req", this::run).replayed());
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void runsWithoutStoringWhenFull() throws Exception {
+        IdempotencyStore small = new IdempotencyStore(registry, 60, 1_000, 1);
+        small.execute("plans", "a@b.c", "key-1", "req", this::run);
+        small.execute("plans", "a@b.c", "key-2", "req", this::run);
+
+        assertFalse(small.execute("plans", "a@b.c", "key-2", "req", this::run).replayed());
+        assertTrue(small.execute("plans", "a@b.c", "key-1", "req", this::run).replayed());
+        assertEquals(3, runs.get());
+    }
+
+    private String run() {
+        return "run-" + runs.incrementAndGet();
+    }
+
+    private double count(String scope, String result) {
+        return registry.counter("idempotency.requests", "scope", scope, "result", result).count();
+    }
+}